@@ -0,0 +1,39 @@
+#!/bin/bash
+# Compares the output of a fast-start build of the program with the output of the jar for a set of invocations.
+#
+# usage: check-cli.sh <jar> <command...>
+
+set -u
+
+jar="$1"
+shift
+dir="$(dirname "$0")"
+failed=0
+
+check() {
+    # runtimes vary between runs and are ignored
+    expected="$(java -jar "$jar" "$@" | grep -v -e '^Runtime: ' -e ' ms for ')"
+    actual="$("${command[@]}" "$@" | grep -v -e '^Runtime: ' -e ' ms for ')"
+
+    if [ "$expected" != "$actual" ]; then
+        echo "output differs for arguments: $*"
+        diff <(echo "$expected") <(echo "$actual")
+        failed=1
+    fi
+}
+
+command=("$@")
+check "$dir/training.csv" "1->2" "2->3"
+check "$dir/training.csv" --closure -i -s "1->2" "2->3"
+check "$dir/training.csv" --hybrid 1000 "1->2" "2->3"
+check "$dir/training.csv" --discover -i
+check "1,2,3;4,2,3" -e --closure "1->2" "2->3"
+check "1,2,3;4,5,3" -e "1->2" "2->1"
+check "1,2,3;4,2,3" -e "1-2"
+check "$dir/missing.csv" "1->2"
+
+if [ "$failed" -ne 0 ]; then
+    exit 1
+fi
+
+echo "fast-start build matches the jar"
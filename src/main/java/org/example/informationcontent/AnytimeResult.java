@@ -0,0 +1,24 @@
+package org.example.informationcontent;
+
+public class AnytimeResult {
+
+    private final double[][] values;
+    private final double[][] errors;
+
+    AnytimeResult(double[][] values, double[][] errors) {
+        this.values = values;
+        this.errors = errors;
+    }
+
+    public double[][] getValues() {
+        return values;
+    }
+
+    /**
+     * Half-widths of the 95% confidence intervals of the values, zero for exactly computed cells.
+     */
+    public double[][] getErrors() {
+        return errors;
+    }
+
+}
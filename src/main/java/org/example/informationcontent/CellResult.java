@@ -0,0 +1,10 @@
+package org.example.informationcontent;
+
+public record CellResult(int row, int col, double value) {
+
+    @Override
+    public String toString() {
+        return String.format("(%d,%d): %s", row + 1, col + 1, value == 1 ? "1" : String.valueOf(value));
+    }
+
+}
@@ -0,0 +1,1347 @@
+package org.example.informationcontent;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.Arrays;
+
+public class Computation {
+
+    private static final int COARSE_SAMPLES = 32;
+    private static final double CONFIDENCE_Z = 1.96;
+
+    private final int[][] table;
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final List<FunctionalDependency> funcDeps = new ArrayList<>();
+    private StrippedPartition[] columnPartitions;
+    private int[][][] fdRowClasses;
+    private final Map<BitSet, int[]> rowClassSizes = new HashMap<>();
+    private BitSet ones;
+    private FdChecker fdChecker;
+    private boolean showProcess;
+    private final boolean identifyOnes;
+    private final boolean considerSubtables;
+    private final int randomisation;
+    private final SamplingStrategy sampling;
+    private CellListener cellListener = (row, col, value) -> {
+    };
+    private AtomicBoolean cancelled = new AtomicBoolean();
+    private Random random = new Random();
+    private long processedCount = 0;
+    private int toCompute;
+    private int processed = -1;
+
+    Computation(int[][] table, boolean identifyOnes, boolean considerSubtables, int randomisation, SamplingStrategy sampling) {
+        this.table = table;
+        rows = table.length;
+        cols = rows == 0 ? 0 : table[0].length;
+        size = rows * cols;
+        this.identifyOnes = identifyOnes;
+        this.considerSubtables = considerSubtables;
+        this.randomisation = randomisation;
+        this.sampling = sampling;
+    }
+
+    void enableProcessedCount() {
+        showProcess = true;
+    }
+
+    void setCellListener(CellListener cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    void cancel() {
+        cancelled.set(true);
+    }
+
+    /**
+     * Makes the sampled worlds reproducible.
+     */
+    void setSeed(long seed) {
+        random = new Random(seed);
+    }
+
+    private void addFuncDep(FunctionalDependency fd) {
+        funcDeps.add(fd);
+        fdRowClasses = null;
+        ones = null;
+        fdChecker = null;
+    }
+
+    void addFuncDepWithCheck(FunctionalDependency fd) {
+        String errorStr = String.format("attribute index out of bounds: in fd %s, number of attributes: %d", fd, cols);
+
+        if (fd.getSimpleRightSide() >= cols) {
+            throw new IllegalArgumentException(errorStr);
+        }
+
+        for (int leftAttr : fd.getLeftSide()) {
+            if (leftAttr >= cols) {
+                throw new IllegalArgumentException(errorStr);
+            }
+        }
+
+        if (!getLeftSidePartition(fd).determines(table, fd.getSimpleRightSide())) {
+            throw new IllegalArgumentException(String.format("fd \"%s\" not fulfilled", fd));
+        }
+
+        addFuncDep(fd);
+    }
+
+    void addDiscoveredFuncDeps() {
+        for (FunctionalDependency fd : new FdDiscovery(table, getColumnPartitions()).discover()) {
+            if (!coversOtherFuncDep(fd)) {
+                addFuncDep(fd);
+            }
+        }
+    }
+
+    private StrippedPartition getLeftSidePartition(FunctionalDependency fd) {
+        return getPartition(fd.getLeftSideArray());
+    }
+
+    private StrippedPartition getPartition(int[] attrs) {
+        StrippedPartition partition = StrippedPartition.ofEmptySet(rows);
+
+        for (int attr : attrs) {
+            partition = partition.product(getColumnPartitions()[attr]);
+        }
+
+        return partition;
+    }
+
+    /**
+     * Size of the equivalence class of each row with respect to a set of attributes, 0 for rows whose values are unique.
+     */
+    private int[] getRowClassSizes(BitSet attrs) {
+        return rowClassSizes.computeIfAbsent(attrs, x -> getPartition(attrs.stream().toArray()).getRowClassSizes());
+    }
+
+    /**
+     * Equivalence class of each row with respect to the left side of each fd, null for rows whose left side values are
+     * unique.
+     */
+    private int[][][] getFdRowClasses() {
+        if (fdRowClasses == null) {
+            fdRowClasses = funcDeps.stream().map(fd -> getLeftSidePartition(fd).getRowClasses()).toArray(int[][][]::new);
+        }
+
+        return fdRowClasses;
+    }
+
+    private StrippedPartition[] getColumnPartitions() {
+        if (columnPartitions == null) {
+            columnPartitions = IntStream.range(0, cols).parallel()
+                    .mapToObj(col -> StrippedPartition.ofColumn(table, col)).toArray(StrippedPartition[]::new);
+        }
+
+        return columnPartitions;
+    }
+
+    String getFdsString() {
+        int remaining = funcDeps.size();
+
+        if (remaining == 0) {
+            return "none";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (FunctionalDependency fd : funcDeps) {
+            builder.append(fd.toString()).append(--remaining > 0 ? ", " : "");
+        }
+
+        return builder.toString();
+    }
+
+    String getFingerprint() {
+        // the shortcuts -i and -s do not change the result
+        String options = randomisation > 0 ? String.format("r=%d,sampling=%s", randomisation, sampling) : "exact";
+        return ResultCache.fingerprint(table, funcDeps.stream().map(FunctionalDependency::toString).toList(), options);
+    }
+
+    boolean coversOtherFuncDep(FunctionalDependency fd) {
+        for (FunctionalDependency funcDep : funcDeps) {
+            if (fd.covers(funcDep)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    void addTransitiveClosure() {
+        List<FunctionalDependency> combinedFds;
+        boolean terminate = false;
+
+        while (!terminate) {
+            combinedFds = getCombinedFds();
+
+            if (!deriveFd(combinedFds)) {
+                terminate = true;
+            }
+        }
+    }
+
+    private boolean deriveFd(List<FunctionalDependency> combinedFds) {
+        for (FunctionalDependency fd2 : combinedFds) {
+            for (FunctionalDependency fd1 : combinedFds) {
+                if (fd1.getRightSide().containsAll(fd2.getLeftSide())) {
+                    FunctionalDependency derivedFd = new FunctionalDependency(fd1.getLeftSide(), fd2.getRightSide());
+
+                    if (!derivedFd.isTrivial()) {
+                        if (addSimpleFuncDeps(derivedFd.getSimpleFunctionalDependencies())) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean addSimpleFuncDeps(List<FunctionalDependency> simpleFds) {
+        boolean added = false;
+
+        for (FunctionalDependency fd : simpleFds) {
+            if (!(fd.isTrivial() || coversOtherFuncDep(fd))) {
+                addFuncDep(fd);
+                added = true;
+            }
+        }
+
+        return added;
+    }
+
+    private List<FunctionalDependency> getCombinedFds() {
+        Map<String, List<Integer>> fdMap = new HashMap<>();
+
+        for (FunctionalDependency fd : funcDeps) {
+            String left = fd.leftSideToString();
+
+            if (fdMap.containsKey(left)) {
+                List<Integer> right = new ArrayList<>(fdMap.get(left));
+                right.add(fd.getSimpleRightSide());
+                fdMap.put(left, right);
+            } else {
+                fdMap.put(left, List.of(fd.getSimpleRightSide()));
+            }
+        }
+
+        List<FunctionalDependency> combinedFds = new ArrayList<>();
+
+        for (Map.Entry<String, List<Integer>> entry : fdMap.entrySet()) {
+            Set<Integer> leftSide = Arrays.stream(entry.getKey().split(",")).mapToInt(x -> Integer.parseInt(x) - 1).boxed().collect(Collectors.toSet());
+            combinedFds.add(new FunctionalDependency(leftSide, Set.copyOf(entry.getValue())));
+        }
+
+        return combinedFds;
+    }
+
+    double[][] getInformationContentMatrix() {
+        return getSparseInformationContentMatrix().toDense();
+    }
+
+    /**
+     * Computes the information content matrix without allocating a dense matrix, only cells with an information content
+     * other than 1 are stored.
+     */
+    InformationContentMatrix getSparseInformationContentMatrix() {
+        int rows = table.length;
+
+        if (rows == 0) {
+            return new InformationContentMatrix(0, 0);
+        }
+
+        if (considerSubtables) {
+            IndexMapping rowMapping = new IndexMapping(getRedundantRows(), rows);
+            IndexMapping colMapping = new IndexMapping(getRedundantCols(), cols);
+
+            if (!rowMapping.isIdentity() || !colMapping.isIdentity()) {
+                Computation subtableComputation = getSubtableComputation(rowMapping, colMapping);
+                return embedSubtableComputation(subtableComputation.getSparseInformationContentMatrix(), rowMapping, colMapping);
+            }
+        }
+
+        InformationContentMatrix matrix = new InformationContentMatrix(rows, cols);
+        toCompute = size;
+
+        if (identifyOnes) {
+            for (int i = 0; i < size; i++) {
+                if (isOne(i)) {
+                    cellListener.cellComputed(i / cols, i % cols, 1);
+                    toCompute--;
+                }
+            }
+        }
+        
+        for (int i = 0; i < size; i++) {
+            if (identifyOnes && isOne(i)) {
+                continue;
+            }
+
+            double value = randomisation > 0 ? informationContentRandomised(i, randomisation) : informationContent(i);
+            matrix.append(i / cols, i % cols, value);
+            cellListener.cellComputed(i / cols, i % cols, value);
+
+            if (showProcess) {
+                printProcessedRatio(randomisation > 0 ? randomisation : Math.pow(2, (size - 1)));
+
+                if (i == size - 1) {
+                    System.out.println();
+                }
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Computes one matrix per computation, all computations share table and options but differ in their functional
+     * dependencies. Each world is generated and materialized once and checked against all fd sets, each distinct fd is
+     * checked at most once per world.
+     */
+    static double[][][] getInformationContentMatrices(List<Computation> computations) {
+        Computation base = computations.get(0);
+        int sets = computations.size();
+
+        if (base.rows == 0) {
+            return new double[sets][0][];
+        }
+
+        if (base.considerSubtables) {
+            int[] redundantRows = base.getRedundantRows();
+            int[] redundantCols = base.getRedundantCols();
+
+            for (Computation computation : computations) {
+                redundantRows = intersect(redundantRows, computation.getRedundantRows(), base.rows);
+                redundantCols = intersect(redundantCols, computation.getRedundantCols(), base.cols);
+            }
+
+            IndexMapping rowMapping = new IndexMapping(redundantRows, base.rows);
+            IndexMapping colMapping = new IndexMapping(redundantCols, base.cols);
+
+            if (!rowMapping.isIdentity() || !colMapping.isIdentity()) {
+                List<Computation> subtableComputations = new ArrayList<>();
+
+                for (Computation computation : computations) {
+                    subtableComputations.add(computation.getSubtableComputation(rowMapping, colMapping));
+                }
+
+                double[][][] subtables = getInformationContentMatrices(subtableComputations);
+                double[][][] matrices = new double[sets][][];
+
+                for (int k = 0; k < sets; k++) {
+                    matrices[k] = base.embedSubtableComputation(subtables[k], rowMapping, colMapping, 1);
+                }
+
+                return matrices;
+            }
+        }
+
+        List<FunctionalDependency> sharedFds = new ArrayList<>();
+        Map<String, Integer> sharedFdIndices = new HashMap<>();
+        int[][] setFds = new int[sets][];
+
+        for (int k = 0; k < sets; k++) {
+            List<FunctionalDependency> funcDeps = computations.get(k).funcDeps;
+            setFds[k] = new int[funcDeps.size()];
+
+            for (int f = 0; f < funcDeps.size(); f++) {
+                FunctionalDependency fd = funcDeps.get(f);
+                setFds[k][f] = sharedFdIndices.computeIfAbsent(fd.toString(), x -> {
+                    sharedFds.add(fd);
+                    return sharedFds.size() - 1;
+                });
+            }
+        }
+
+        double[][][] matrices = new double[sets][base.rows][base.cols];
+
+        for (int i = 0; i < base.size; i++) {
+            int position = i;
+            boolean[] active = new boolean[sets];
+            boolean anyActive = false;
+
+            for (int k = 0; k < sets; k++) {
+                if (base.identifyOnes && computations.get(k).isOne(i)) {
+                    matrices[k][i / base.cols][i % base.cols] = 1;
+                } else {
+                    active[k] = anyActive = true;
+                }
+            }
+
+            if (!anyActive) {
+                continue;
+            }
+
+            WorldEvaluator evaluator = (hasValue, results) -> base.checkFdSets(position, hasValue, sharedFds, setFds, active, results);
+            double[] values = base.randomisation > 0
+                    ? base.informationContentsRandomised(i, base.randomisation, sets, evaluator, () -> computations.stream()
+                            .flatMapToInt(computation -> Arrays.stream(computation.getInfluenceSet(position).getCells()))
+                            .distinct().sorted().toArray())
+                    : base.informationContentsExact(sets, evaluator);
+
+            for (int k = 0; k < sets; k++) {
+                if (active[k]) {
+                    matrices[k][i / base.cols][i % base.cols] = values[k];
+                }
+            }
+        }
+
+        return matrices;
+    }
+
+    private void checkFdSets(int position, boolean[] hasValue, List<FunctionalDependency> sharedFds, int[][] setFds, boolean[] active, double[] results) {
+        if (cancelled.get()) {
+            throw new CancellationException("computation cancelled");
+        }
+
+        int[][] tableTmp = createTable(position, hasValue);
+        tableTmp[position / cols][position % cols] = getMaxEntry(tableTmp) + 1;
+        Boolean[] violated = new Boolean[sharedFds.size()];
+
+        for (int k = 0; k < setFds.length; k++) {
+            results[k] = active[k] ? 1 : 0;
+
+            for (int f = 0; active[k] && f < setFds[k].length; f++) {
+                int fd = setFds[k][f];
+
+                if (violated[fd] == null) {
+                    FunctionalDependency funcDep = sharedFds.get(fd);
+                    // only fds determining the column of the fresh cell can be violated
+                    violated[fd] = funcDep.getSimpleRightSide() == position % cols
+                            && FdChecker.isViolated(tableTmp, position / cols, position % cols, funcDep.getLeftSideArray());
+                }
+
+                if (violated[fd]) {
+                    results[k] = 0;
+                    break;
+                }
+            }
+        }
+    }
+
+    HybridResult getHybridResult(double maxExactCost, double accuracy) {
+        if (rows == 0) {
+            return new HybridResult(new double[0][], new double[0][], new ComputationMethod[0][]);
+        }
+
+        if (considerSubtables) {
+            IndexMapping rowMapping = new IndexMapping(getRedundantRows(), rows);
+            IndexMapping colMapping = new IndexMapping(getRedundantCols(), cols);
+
+            if (!rowMapping.isIdentity() || !colMapping.isIdentity()) {
+                Computation subtableComputation = getSubtableComputation(rowMapping, colMapping);
+                HybridResult subtableResult = subtableComputation.getHybridResult(maxExactCost, accuracy);
+                return new HybridResult(embedSubtableComputation(subtableResult.getValues(), rowMapping, colMapping, 1),
+                        embedSubtableComputation(subtableResult.getErrors(), rowMapping, colMapping, 0),
+                        embedSubtableMethods(subtableResult.getMethods(), rowMapping, colMapping));
+            }
+        }
+
+        // number of samples for which the 95% confidence interval is at most as wide as the accuracy in the worst case
+        int runs = (int) Math.ceil(CONFIDENCE_Z * CONFIDENCE_Z / (4 * accuracy * accuracy));
+        double[][] values = new double[rows][cols];
+        double[][] errors = new double[rows][cols];
+        ComputationMethod[][] methods = new ComputationMethod[rows][cols];
+
+        for (int i = 0; i < size; i++) {
+            int row = i / cols;
+            int col = i % cols;
+
+            if (cancelled.get()) {
+                throw new CancellationException("computation cancelled");
+            }
+
+            if (identifyOnes && isOne(i)) {
+                values[row][col] = 1;
+                methods[row][col] = ComputationMethod.ONE;
+            } else {
+                InfluenceSet influenceSet = getInfluenceSet(i);
+
+                if (influenceSet.getExactCost() <= maxExactCost) {
+                    values[row][col] = influenceSet.getInformationContent();
+                    methods[row][col] = ComputationMethod.EXACT;
+                } else {
+                    values[row][col] = informationContentRandomised(i, runs);
+                    errors[row][col] = getWilsonHalfWidth(values[row][col], runs);
+                    methods[row][col] = ComputationMethod.SAMPLED;
+                }
+            }
+
+            cellListener.cellComputed(row, col, values[row][col]);
+
+            if (showProcess) {
+                printProcessed((int) ((i + 1) * 100L / size));
+
+                if (i == size - 1) {
+                    System.out.println();
+                }
+            }
+        }
+
+        return new HybridResult(values, errors, methods);
+    }
+
+    /**
+     * Returns the k cells with the lowest information content in ascending order, each cell is reported to the cell
+     * listener as soon as its rank is confirmed. Only cells whose bounds may place them among the k lowest are evaluated.
+     */
+    List<CellResult> getMostRedundantCells(int k, double maxExactCost, double accuracy) {
+        double[] lowerBounds = new double[size];
+        double[] upperBounds = new double[size];
+        Arrays.fill(lowerBounds, 1);
+        Arrays.fill(upperBounds, 1);
+
+        // conditioned on its own left side, each other row of the lhs group violates an fd with probability 2^-(|X|+1),
+        // the fulfillment events of different fds are positively correlated, so their product is a lower bound
+        for (int f = 0; f < funcDeps.size(); f++) {
+            FunctionalDependency funcDep = funcDeps.get(f);
+            int col = funcDep.getSimpleRightSide();
+            int leftSize = funcDep.getLeftSideArray().length;
+
+            if (funcDep.getLeftSide().contains(col)) {
+                continue;
+            }
+
+            int[][] rowClasses = getFdRowClasses()[f];
+
+            for (int row = 0; row < rows; row++) {
+                int otherRows = rowClasses[row] == null ? 0 : rowClasses[row].length - 1;
+                double fulfilled = 1 - Math.pow(2, -leftSize) * (1 - Math.pow(1 - Math.pow(2, -(leftSize + 1)), otherRows));
+                upperBounds[row * cols + col] = Math.min(upperBounds[row * cols + col], fulfilled);
+                lowerBounds[row * cols + col] *= fulfilled;
+            }
+        }
+
+        int runs = (int) Math.ceil(CONFIDENCE_Z * CONFIDENCE_Z / (4 * accuracy * accuracy));
+        PriorityQueue<Integer> unevaluated = new PriorityQueue<>(Comparator.comparingDouble(i -> lowerBounds[i]));
+        PriorityQueue<CellResult> evaluated = new PriorityQueue<>(Comparator.comparingDouble(CellResult::value));
+        List<CellResult> mostRedundantCells = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            unevaluated.add(i);
+        }
+
+        while (mostRedundantCells.size() < Math.min(k, size)) {
+            if (!evaluated.isEmpty() && (unevaluated.isEmpty() || evaluated.peek().value() <= lowerBounds[unevaluated.peek()])) {
+                CellResult cell = evaluated.poll();
+                mostRedundantCells.add(cell);
+                cellListener.cellComputed(cell.row(), cell.col(), cell.value());
+                continue;
+            }
+
+            int i = unevaluated.poll();
+            double value;
+
+            if (lowerBounds[i] == upperBounds[i]) {
+                value = lowerBounds[i];
+            } else {
+                InfluenceSet influenceSet = getInfluenceSet(i);
+                value = influenceSet.getExactCost() <= maxExactCost ? influenceSet.getInformationContent() : informationContentRandomised(i, runs);
+            }
+
+            evaluated.add(new CellResult(i / cols, i % cols, value));
+        }
+
+        return mostRedundantCells;
+    }
+
+    /**
+     * Estimates the average information content of the table and of each column by sampling pairs of a cell and a
+     * world. Only the presence of the cells inspected for the sampled cell is drawn, so neither the cell matrix nor
+     * the worlds are materialized. A sampled pair without information is attributed in equal shares to the fds it
+     * violates.
+     */
+    RedundancySummary getRedundancySummary(int samplesPerColumn, boolean attribution) {
+        int[][][] rowClasses = new int[funcDeps.size()][][];
+        double[] columnAverages = new double[cols];
+        double[] columnVariances = new double[cols];
+        double[] attributions = new double[funcDeps.size()];
+        double[] attributionVariances = new double[funcDeps.size()];
+        long samples = 0;
+
+        for (int f = 0; f < funcDeps.size(); f++) {
+            FunctionalDependency funcDep = funcDeps.get(f);
+
+            if (!funcDep.getLeftSide().contains(funcDep.getSimpleRightSide())) {
+                rowClasses[f] = getFdRowClasses()[f];
+            }
+        }
+
+        for (int col = 0; col < cols; col++) {
+            List<Integer> relevantFds = new ArrayList<>();
+
+            for (int f = 0; f < funcDeps.size(); f++) {
+                if (rowClasses[f] != null && funcDeps.get(f).getSimpleRightSide() == col) {
+                    relevantFds.add(f);
+                }
+            }
+
+            if (relevantFds.isEmpty() || rows == 0) {
+                columnAverages[col] = 1;
+                continue;
+            }
+
+            double[] shares = new double[relevantFds.size()];
+            double[] shareSquares = new double[relevantFds.size()];
+            long fulfilled = 0;
+
+            for (int s = 0; s < samplesPerColumn; s++) {
+                int row = random.nextInt(rows);
+                Map<Long, Boolean> present = new HashMap<>();
+                int violations = 0;
+                boolean[] violated = new boolean[relevantFds.size()];
+
+                for (int f = 0; f < relevantFds.size() && (attribution || violations == 0); f++) {
+                    int fd = relevantFds.get(f);
+
+                    if (isViolatedInSampledWorld(row, funcDeps.get(fd), rowClasses[fd][row], present, random)) {
+                        violated[f] = true;
+                        violations++;
+                    }
+                }
+
+                if (violations == 0) {
+                    fulfilled++;
+                }
+
+                for (int f = 0; f < relevantFds.size(); f++) {
+                    if (violated[f]) {
+                        shares[f] += 1.0 / violations;
+                        shareSquares[f] += 1.0 / violations / violations;
+                    }
+                }
+            }
+
+            samples += samplesPerColumn;
+            columnAverages[col] = (double) fulfilled / samplesPerColumn;
+            columnVariances[col] = columnAverages[col] * (1 - columnAverages[col]) / samplesPerColumn;
+
+            // each column contributes a share of 1/cols to the averages over the table
+            for (int f = 0; f < relevantFds.size(); f++) {
+                double mean = shares[f] / samplesPerColumn;
+                attributions[relevantFds.get(f)] = mean / cols;
+                attributionVariances[relevantFds.get(f)] = (shareSquares[f] / samplesPerColumn - mean * mean) / samplesPerColumn / cols / cols;
+            }
+        }
+
+        double average = Arrays.stream(columnAverages).sum() / cols;
+        double averageError = CONFIDENCE_Z * Math.sqrt(Arrays.stream(columnVariances).sum()) / cols;
+        double[] columnErrors = Arrays.stream(columnVariances).map(variance -> CONFIDENCE_Z * Math.sqrt(variance)).toArray();
+        String[] fdStrings = funcDeps.stream().map(FunctionalDependency::toString).toArray(String[]::new);
+
+        if (!attribution) {
+            return new RedundancySummary(samples, average, averageError, columnAverages, columnErrors, fdStrings, null, null);
+        }
+
+        double[] attributionErrors = Arrays.stream(attributionVariances).map(variance -> CONFIDENCE_Z * Math.sqrt(variance)).toArray();
+        return new RedundancySummary(samples, average, averageError, columnAverages, columnErrors, fdStrings, attributions, attributionErrors);
+    }
+
+    private boolean isViolatedInSampledWorld(int row, FunctionalDependency funcDep, int[] rowClass, Map<Long, Boolean> present, Random random) {
+        if (rowClass == null) {
+            return false;
+        }
+
+        int[] leftAttrs = funcDep.getLeftSideArray();
+
+        for (int attr : leftAttrs) {
+            if (!isPresentInSampledWorld(row, attr, present, random)) {
+                return false;
+            }
+        }
+
+        for (int other : rowClass) {
+            if (other == row || !isPresentInSampledWorld(other, funcDep.getSimpleRightSide(), present, random)) {
+                continue;
+            }
+
+            boolean leftPresent = true;
+
+            for (int attr : leftAttrs) {
+                if (!isPresentInSampledWorld(other, attr, present, random)) {
+                    leftPresent = false;
+                    break;
+                }
+            }
+
+            if (leftPresent) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isPresentInSampledWorld(int row, int col, Map<Long, Boolean> present, Random random) {
+        return present.computeIfAbsent((long) row * cols + col, x -> random.nextBoolean());
+    }
+
+    AnytimeResult getAnytimeResult(long budgetMillis) {
+        return getAnytimeResultUntil(System.nanoTime() + budgetMillis * 1000000);
+    }
+
+    private AnytimeResult getAnytimeResultUntil(long deadline) {
+        if (rows == 0) {
+            return new AnytimeResult(new double[0][], new double[0][]);
+        }
+
+        if (considerSubtables) {
+            IndexMapping rowMapping = new IndexMapping(getRedundantRows(), rows);
+            IndexMapping colMapping = new IndexMapping(getRedundantCols(), cols);
+
+            if (!rowMapping.isIdentity() || !colMapping.isIdentity()) {
+                Computation subtableComputation = getSubtableComputation(rowMapping, colMapping);
+                AnytimeResult subtableResult = subtableComputation.getAnytimeResultUntil(deadline);
+                return new AnytimeResult(embedSubtableComputation(subtableResult.getValues(), rowMapping, colMapping, 1),
+                        embedSubtableComputation(subtableResult.getErrors(), rowMapping, colMapping, 0));
+            }
+        }
+
+        // without any sample, the information content is only known to lie in [0, 1]
+        double[] values = new double[size];
+        double[] errors = new double[size];
+        long[] samples = new long[size];
+        Arrays.fill(values, 0.5);
+        Arrays.fill(errors, 0.5);
+
+        // cells without another row agreeing on a relevant left side are 1, which the partitions show at no cost
+        BitSet ones = getOnes();
+
+        for (int i = ones.nextSetBit(0); i >= 0; i = ones.nextSetBit(i + 1)) {
+            values[i] = 1;
+            errors[i] = 0;
+        }
+
+        long coarseStart = System.nanoTime();
+        long coarseSamples = 0;
+        double[] exactCosts = new double[size];
+
+        // the exact cost follows from the class sizes of the partitions, so cells in large groups with a small influence
+        // set are computed exactly without visiting the rows of their group
+        for (int i = 0; i < size && System.nanoTime() < deadline; i++) {
+            if (errors[i] == 0) {
+                continue;
+            }
+
+            InfluenceSet influenceSet = getInfluenceSet(i);
+            exactCosts[i] = influenceSet.getExactCost();
+
+            if (exactCosts[i] <= COARSE_SAMPLES) {
+                values[i] = influenceSet.getInformationContent();
+                errors[i] = 0;
+            } else {
+                refineSampledCell(i, COARSE_SAMPLES, values, errors, samples);
+                coarseSamples += COARSE_SAMPLES;
+            }
+        }
+
+        // refinement batches are limited to about one percent of the budget to keep the overshoot small
+        double nanosPerWorld = (double) (System.nanoTime() - coarseStart) / Math.max(1, coarseSamples);
+        long maxBatch = Math.max(1, (long) ((deadline - coarseStart) / 100.0 / Math.max(1, nanosPerWorld)));
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.<Integer>comparingDouble(i -> -errors[i])
+                .thenComparingDouble(i -> exactCosts[i]));
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] > 0 && samples[i] > 0) {
+                queue.add(i);
+            }
+        }
+
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            int i = queue.poll();
+
+            if (exactCosts[i] <= samples[i]) {
+                values[i] = getInfluenceSet(i).getInformationContent();
+                errors[i] = 0;
+            } else {
+                refineSampledCell(i, (int) Math.min(samples[i], maxBatch), values, errors, samples);
+
+                if (errors[i] > 0) {
+                    queue.add(i);
+                }
+            }
+        }
+
+        double[][] valueMatrix = new double[rows][cols];
+        double[][] errorMatrix = new double[rows][cols];
+
+        for (int i = 0; i < size; i++) {
+            valueMatrix[i / cols][i % cols] = values[i];
+            errorMatrix[i / cols][i % cols] = errors[i];
+            cellListener.cellComputed(i / cols, i % cols, values[i]);
+        }
+
+        return new AnytimeResult(valueMatrix, errorMatrix);
+    }
+
+    private InfluenceSet getInfluenceSet(int position) {
+        return new InfluenceSet(funcDeps, getFdRowClasses(), this::getRowClassSizes, position, cols);
+    }
+
+    private void refineSampledCell(int position, int runs, double[] values, double[] errors, long[] samples) {
+        double estimate = informationContentRandomised(position, runs);
+        long n = samples[position] + runs;
+        values[position] = (values[position] * samples[position] + estimate * runs) / n;
+        samples[position] = n;
+        errors[position] = getWilsonHalfWidth(values[position], n);
+    }
+
+    private double informationContent(int position) {
+        return informationContentRec(position, new boolean[]{});
+    }
+
+    private double informationContentRandomised(int position, int runs) {
+        return informationContentsRandomised(position, runs, 1, (hasValue, results) -> results[0] = informationContentRec(position, hasValue))[0];
+    }
+
+    private double[] informationContentsRandomised(int position, int runs, int outcomes, WorldEvaluator evaluator) {
+        return informationContentsRandomised(position, runs, outcomes, evaluator, () -> getInfluenceSet(position).getCells());
+    }
+
+    private double[] informationContentsRandomised(int position, int runs, int outcomes, WorldEvaluator evaluator, Supplier<int[]> influenceCells) {
+        return switch (sampling) {
+            case MONTE_CARLO -> informationContentsMonteCarlo(runs, outcomes, evaluator);
+            case STRATIFIED -> informationContentsStratified(position, influenceCells.get(), runs, outcomes, evaluator);
+            case QUASI_MONTE_CARLO -> informationContentsQuasiMonteCarlo(runs, outcomes, evaluator);
+            case ANTITHETIC -> informationContentsAntithetic(runs, outcomes, evaluator);
+        };
+    }
+
+    private double[] informationContentsExact(int outcomes, WorldEvaluator evaluator) {
+        boolean[] arr = new boolean[size - 1];
+        double[] sums = new double[outcomes];
+        double[] results = new double[outcomes];
+        long worlds = 1L << arr.length;
+
+        for (long world = 0; world < worlds; world++) {
+            for (int j = 0; j < arr.length; j++) {
+                arr[j] = (world >> j & 1) == 1;
+            }
+            evaluator.evaluate(arr, results);
+            addTo(sums, results);
+        }
+
+        return divide(sums, worlds);
+    }
+
+    private double[] informationContentsMonteCarlo(int runs, int outcomes, WorldEvaluator evaluator) {
+        boolean[] arr = new boolean[size - 1];
+        double[] sums = new double[outcomes];
+        double[] results = new double[outcomes];
+
+        for (int i = 0; i < runs; i++) {
+            for (int j = 0; j < arr.length; j++) {
+                arr[j] = random.nextBoolean();
+            }
+            evaluator.evaluate(arr, results);
+            addTo(sums, results);
+        }
+
+        return divide(sums, runs);
+    }
+
+    private double[] informationContentsStratified(int position, int[] influenceCells, int runs, int outcomes, WorldEvaluator evaluator) {
+        // stratum k contains all worlds with exactly k present cells of the influence set, weighted by its binomial
+        // probability, the presence of all other cells does not affect the result
+        int m = influenceCells.length;
+        int[] indices = new int[m];
+        double[] weights = binomialWeights(m);
+        boolean[] arr = new boolean[size - 1];
+        double[] sums = new double[outcomes];
+        double[] results = new double[outcomes];
+
+        for (int j = 0; j < m; j++) {
+            indices[j] = influenceCells[j] < position ? influenceCells[j] : influenceCells[j] - 1;
+        }
+
+        // strata without a proportional sample share one sample drawn from their conditional distribution, hence every
+        // stratum contributes to the estimate and it stays unbiased
+        int[] allocation = allocateProportionally(weights, runs);
+        double remainderWeight = 0;
+
+        if (Arrays.stream(allocation).anyMatch(x -> x == 0)) {
+            allocation = allocateProportionally(weights, runs - 1);
+        }
+
+        for (int k = 0; k <= m; k++) {
+            if (allocation[k] == 0) {
+                remainderWeight += weights[k];
+            }
+        }
+
+        for (int k = 0; k <= m; k++) {
+            if (allocation[k] == 0) {
+                continue;
+            }
+
+            double[] stratumSums = new double[outcomes];
+
+            for (int i = 0; i < allocation[k]; i++) {
+                drawWorld(arr, indices, k, random);
+                evaluator.evaluate(arr, results);
+                addTo(stratumSums, results);
+            }
+
+            for (int o = 0; o < outcomes; o++) {
+                sums[o] += weights[k] * stratumSums[o] / allocation[k];
+            }
+        }
+
+        if (remainderWeight > 0) {
+            drawWorld(arr, indices, drawRemainderStratum(weights, allocation, remainderWeight, random), random);
+            evaluator.evaluate(arr, results);
+
+            for (int o = 0; o < outcomes; o++) {
+                sums[o] += remainderWeight * results[o];
+            }
+        }
+
+        return sums;
+    }
+
+    private double[] informationContentsQuasiMonteCarlo(int runs, int outcomes, WorldEvaluator evaluator) {
+        // linearly scrambled Halton sequence, each presence bit is the comparison of one coordinate with 1/2
+        int n = size - 1;
+        int[] primes = getFirstPrimes(n);
+        int[] factors = new int[n];
+        int[] offsets = new int[n];
+        boolean[] arr = new boolean[n];
+        double[] sums = new double[outcomes];
+        double[] results = new double[outcomes];
+
+        for (int j = 0; j < n; j++) {
+            factors[j] = 1 + random.nextInt(primes[j] - 1);
+            offsets[j] = random.nextInt(primes[j]);
+        }
+
+        for (int i = 0; i < runs; i++) {
+            for (int j = 0; j < n; j++) {
+                arr[j] = scrambledCoordinateBelowHalf(i + 1, primes[j], factors[j], offsets[j]);
+            }
+            evaluator.evaluate(arr, results);
+            addTo(sums, results);
+        }
+
+        return divide(sums, runs);
+    }
+
+    private double[] informationContentsAntithetic(int runs, int outcomes, WorldEvaluator evaluator) {
+        boolean[] arr = new boolean[size - 1];
+        double[] sums = new double[outcomes];
+        double[] results = new double[outcomes];
+
+        for (int i = 0; i < runs; i += 2) {
+            for (int j = 0; j < arr.length; j++) {
+                arr[j] = random.nextBoolean();
+            }
+            evaluator.evaluate(arr, results);
+            addTo(sums, results);
+
+            if (i + 1 < runs) {
+                for (int j = 0; j < arr.length; j++) {
+                    arr[j] = !arr[j];
+                }
+                evaluator.evaluate(arr, results);
+                addTo(sums, results);
+            }
+        }
+
+        return divide(sums, runs);
+    }
+
+    private double informationContentRec(int position, boolean[] arr) {
+        if (arr.length == size - 1) {
+            double result = entropy(position, arr);
+
+            if (showProcess && toCompute > 0) {
+                printProcessedRatio(randomisation > 0 ? randomisation : (Math.pow(2, size - 1)));
+            }
+
+            return result;
+        }
+
+        return (informationContentRec(position, concat(true, arr)) + informationContentRec(position, concat(false, arr))) / 2;
+    }
+
+    private double entropy(int position, boolean[] hasValue) {
+        if (cancelled.get()) {
+            throw new CancellationException("computation cancelled");
+        }
+
+        int[][] tableTmp = createTable(position, hasValue);
+        tableTmp[position / cols][position % cols] = getMaxEntry(tableTmp) + 1;
+        return getFdChecker().isViolated(tableTmp, position / cols, position % cols) ? 0 : 1;
+    }
+
+    private FdChecker getFdChecker() {
+        if (fdChecker == null) {
+            fdChecker = new FdChecker(funcDeps, cols);
+        }
+
+        return fdChecker;
+    }
+
+    private int[][] createTable(int position, boolean[] hasValue) {
+        int[][] tableTmp = new int[rows][cols];
+        int boolPos = 0;
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (boolPos < position) {
+                    tableTmp[i][j] = hasValue[boolPos] ? table[i][j] : 0;
+                } else if (boolPos > position) {
+                    tableTmp[i][j] = hasValue[boolPos - 1] ? table[i][j] : 0;
+                }
+
+                boolPos++;
+            }
+        }
+
+        return tableTmp;
+    }
+
+    private Computation getSubtableComputation(IndexMapping rowMapping, IndexMapping colMapping) {
+        int[][] newTable = new int[rowMapping.getKeptCount()][colMapping.getKeptCount()];
+
+        for (int i = 0; i < newTable.length; i++) {
+            int[] row = table[rowMapping.toTable(i)];
+
+            for (int j = 0; j < newTable[i].length; j++) {
+                newTable[i][j] = row[colMapping.toTable(j)];
+            }
+        }
+
+        Computation computation = new Computation(newTable, identifyOnes, considerSubtables, randomisation, sampling);
+
+        if (showProcess) {
+            computation.enableProcessedCount();
+        }
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (rowMapping.isDeleted(i) || colMapping.isDeleted(j)) {
+                    cellListener.cellComputed(i, j, 1);
+                }
+            }
+        }
+
+        computation.cellListener = (row, col, value) -> cellListener.cellComputed(rowMapping.toTable(row), colMapping.toTable(col), value);
+        computation.cancelled = cancelled;
+        computation.random = random;
+
+        for (FunctionalDependency funcDep : funcDeps) {
+            computation.addFuncDep(funcDep.convertToSubtable(colMapping));
+        }
+
+        return computation;
+    }
+
+    private double[][] embedSubtableComputation(double[][] subtable, IndexMapping rowMapping, IndexMapping colMapping, double defaultValue) {
+        double[][] entropies = new double[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            if (rowMapping.isDeleted(i)) {
+                Arrays.fill(entropies[i], defaultValue);
+            } else {
+                double[] subtableRow = subtable[rowMapping.toSubtable(i)];
+
+                for (int j = 0; j < cols; j++) {
+                    entropies[i][j] = colMapping.isDeleted(j) ? defaultValue : subtableRow[colMapping.toSubtable(j)];
+                }
+            }
+        }
+
+        return entropies;
+    }
+
+    private InformationContentMatrix embedSubtableComputation(InformationContentMatrix subtable, IndexMapping rowMapping, IndexMapping colMapping) {
+        InformationContentMatrix matrix = new InformationContentMatrix(rows, cols);
+
+        // kept indices are ascending, hence the embedded cells stay in row-major order
+        for (CellResult cell : subtable) {
+            matrix.append(rowMapping.toTable(cell.row()), colMapping.toTable(cell.col()), cell.value());
+        }
+
+        return matrix;
+    }
+
+    private ComputationMethod[][] embedSubtableMethods(ComputationMethod[][] subtable, IndexMapping rowMapping, IndexMapping colMapping) {
+        ComputationMethod[][] methods = new ComputationMethod[rows][cols];
+
+        for (int i = 0; i < rows; i++) {
+            if (rowMapping.isDeleted(i)) {
+                Arrays.fill(methods[i], ComputationMethod.ONE);
+            } else {
+                ComputationMethod[] subtableRow = subtable[rowMapping.toSubtable(i)];
+
+                for (int j = 0; j < cols; j++) {
+                    methods[i][j] = colMapping.isDeleted(j) ? ComputationMethod.ONE : subtableRow[colMapping.toSubtable(j)];
+                }
+            }
+        }
+
+        return methods;
+    }
+
+    private int[] getRedundantRows() {
+        List<Integer> redundantRowsList = new ArrayList<>();
+
+        for (int i = 0; i < rows; i++) {
+            if (rowIsOne(i)) {
+                redundantRowsList.add(i);
+            }
+        }
+
+        int[] redundantRows = new int[redundantRowsList.size()];
+
+        for (int i = 0; i < redundantRows.length; i++) {
+            redundantRows[i] = redundantRowsList.get(i);
+        }
+
+        return redundantRows;
+    }
+
+    private boolean rowIsOne(int row) {
+        int firstPos = row * cols;
+        return getOnes().nextClearBit(firstPos) >= firstPos + cols;
+    }
+
+    private boolean isOne(int position) {
+        return getOnes().get(position);
+    }
+
+    /**
+     * A cell has information content 1 if no other row agrees with its row on the left side of any fd determining its
+     * column, the rows agreeing on a left side are given by its stripped partition.
+     */
+    private BitSet getOnes() {
+        if (ones == null) {
+            BitSet newOnes = new BitSet(size);
+            newOnes.set(0, size);
+
+            for (int f = 0; f < funcDeps.size(); f++) {
+                int col = funcDeps.get(f).getSimpleRightSide();
+                int[][] rowClasses = getFdRowClasses()[f];
+
+                for (int row = 0; row < rows; row++) {
+                    if (rowClasses[row] != null) {
+                        newOnes.clear(row * cols + col);
+                    }
+                }
+            }
+
+            ones = newOnes;
+        }
+
+        return ones;
+    }
+
+    private int[] getRedundantCols() {
+        Set<Integer> relevantCols = new HashSet<>();
+
+        for (FunctionalDependency funcDep : funcDeps) {
+            relevantCols.addAll(funcDep.getAttributeIndices());
+        }
+
+        int[] redundantCols = new int[cols - relevantCols.size()];
+        int j = 0;
+
+        for (int i = 0; i < cols; i++) {
+            if (!relevantCols.contains(i)) {
+                redundantCols[j++] = i;
+            }
+        }
+
+        return redundantCols;
+    }
+
+    private static int[] intersect(int[] arr1, int[] arr2, int length) {
+        BitSet contained = new BitSet(length);
+
+        for (int x : arr2) {
+            contained.set(x);
+        }
+
+        return Arrays.stream(arr1).filter(contained::get).toArray();
+    }
+
+    private static int getMaxEntry(int[][] table) {
+        int max = -1;
+
+        for (int[] row : table) {
+            for (int cell : row) {
+                max = Math.max(max, cell);
+            }
+        }
+
+        return max;
+    }
+
+    private static boolean[] concat(boolean elem, boolean[] arr) {
+        boolean[] result = new boolean[arr.length + 1];
+        result[0] = elem;
+        System.arraycopy(arr, 0, result, 1, arr.length);
+        return result;
+    }
+
+    private static void addTo(double[] sums, double[] values) {
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] += values[i];
+        }
+    }
+
+    private static double[] divide(double[] sums, double divisor) {
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] /= divisor;
+        }
+
+        return sums;
+    }
+
+    private static double getWilsonHalfWidth(double p, long n) {
+        double z2 = CONFIDENCE_Z * CONFIDENCE_Z;
+        return CONFIDENCE_Z / (1 + z2 / n) * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n));
+    }
+
+    private static double[] binomialWeights(int n) {
+        double[] weights = new double[n + 1];
+        double logWeight = -n * Math.log(2);
+
+        for (int k = 0; k <= n; k++) {
+            weights[k] = Math.exp(logWeight);
+            logWeight += Math.log(n - k) - Math.log(k + 1);
+        }
+
+        return weights;
+    }
+
+    private static int[] allocateProportionally(double[] weights, int total) {
+        int[] allocation = new int[weights.length];
+        Integer[] byRemainder = new Integer[weights.length];
+        int allocated = 0;
+
+        for (int k = 0; k < weights.length; k++) {
+            allocation[k] = (int) (weights[k] * total);
+            allocated += allocation[k];
+            byRemainder[k] = k;
+        }
+
+        Arrays.sort(byRemainder, Comparator.comparingDouble(k -> allocation[k] - weights[k] * total));
+
+        for (int i = 0; allocated < total; i++) {
+            allocation[byRemainder[i % byRemainder.length]]++;
+            allocated++;
+        }
+
+        return allocation;
+    }
+
+    private static int drawRemainderStratum(double[] weights, int[] allocation, double remainderWeight, Random random) {
+        double threshold = random.nextDouble() * remainderWeight;
+        int last = -1;
+
+        for (int k = 0; k < weights.length; k++) {
+            if (allocation[k] == 0) {
+                last = k;
+                threshold -= weights[k];
+
+                if (threshold < 0) {
+                    return k;
+                }
+            }
+        }
+
+        return last;
+    }
+
+    /**
+     * Draws a world with exactly k of the given cells present, all other cells are present with probability 1/2.
+     */
+    private static void drawWorld(boolean[] arr, int[] indices, int k, Random random) {
+        for (int j = 0; j < arr.length; j++) {
+            arr[j] = random.nextBoolean();
+        }
+
+        for (int index : indices) {
+            arr[index] = false;
+        }
+
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(indices.length - i);
+            int tmp = indices[i];
+            indices[i] = indices[j];
+            indices[j] = tmp;
+            arr[indices[i]] = true;
+        }
+    }
+
+    private static int[] getFirstPrimes(int n) {
+        int[] primes = new int[n];
+        int limit = Math.max(16, (int) (n * (Math.log(n + 1) + Math.log(Math.log(n + 2)) + 2)));
+        boolean[] composite = new boolean[limit + 1];
+        int found = 0;
+
+        for (int i = 2; found < n; i++) {
+            if (!composite[i]) {
+                primes[found++] = i;
+
+                for (long j = (long) i * i; j <= limit; j += i) {
+                    composite[(int) j] = true;
+                }
+            }
+        }
+
+        return primes;
+    }
+
+    private static boolean scrambledCoordinateBelowHalf(long index, int base, int factor, int offset) {
+        // in an odd base, 1/2 has the expansion 0.hhh... with h = (base - 1) / 2
+        int half = base / 2;
+
+        for (int digit = 0; digit < 64; digit++) {
+            int scrambled = (int) ((factor * (index % base) + offset) % base);
+
+            if (base == 2 || scrambled != half) {
+                return scrambled < half;
+            }
+
+            index /= base;
+        }
+
+        return false;
+    }
+
+    private void printProcessedRatio(double iterations) {
+        processedCount++;
+        printProcessed((int) (processedCount * 100 / (iterations * toCompute)));
+    }
+
+    private void printProcessed(int processed_new) {
+        if (processed_new > processed) {
+            System.out.print("\033[2K\033[1G");
+            System.out.print("Processed: " + (processed = processed_new) + "%");
+        }
+    }
+
+    interface CellListener {
+
+        void cellComputed(int row, int col, double value);
+
+    }
+
+    interface WorldEvaluator {
+
+        void evaluate(boolean[] hasValue, double[] results);
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.example.informationcontent;
+
+public enum ComputationMethod {
+
+    ONE("1"),
+    EXACT("E"),
+    SAMPLED("S");
+
+    private final String symbol;
+
+    ComputationMethod(String symbol) {
+        this.symbol = symbol;
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.example.informationcontent;
+
+import java.util.*;
+
+/**
+ * Checks whether a world violates the fds of a computation. The world is the table with some cells missing (value 0)
+ * and a fresh value at one cell. As the table fulfills all fds, only an fd determining the column of the fresh cell can
+ * be violated, and only by a pair of rows including the row of the fresh cell. The fds of each column are checked in
+ * decreasing order of the rate at which they caused a violation so far.
+ */
+class FdChecker {
+
+    private static final int REORDER_INTERVAL = 1024;
+
+    private final int[][] leftSides;
+    private final int[][] subsetFds;
+    private final int[][] fdsByRightSide;
+    private final int[] worldsSinceReorder;
+    private final long[] checks;
+    private final long[] violations;
+
+    FdChecker(List<FunctionalDependency> funcDeps, int cols) {
+        int numFds = funcDeps.size();
+        leftSides = new int[numFds][];
+        subsetFds = new int[numFds][];
+        fdsByRightSide = new int[cols][];
+        worldsSinceReorder = new int[cols];
+        checks = new long[numFds];
+        violations = new long[numFds];
+        List<List<Integer>> fdsOfCol = new ArrayList<>();
+
+        for (int col = 0; col < cols; col++) {
+            fdsOfCol.add(new ArrayList<>());
+        }
+
+        for (int f = 0; f < numFds; f++) {
+            leftSides[f] = funcDeps.get(f).getLeftSideArray();
+            fdsOfCol.get(funcDeps.get(f).getSimpleRightSide()).add(f);
+        }
+
+        for (int col = 0; col < cols; col++) {
+            fdsByRightSide[col] = fdsOfCol.get(col).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // a violation of Y->A is also one of X->A for X a subset of Y, hence Y->A holds if X->A does
+        for (int f = 0; f < numFds; f++) {
+            int fd = f;
+            Set<Integer> leftSide = funcDeps.get(fd).getLeftSide();
+            subsetFds[fd] = fdsOfCol.get(funcDeps.get(fd).getSimpleRightSide()).stream()
+                    .filter(g -> g != fd && leftSide.containsAll(funcDeps.get(g).getLeftSide())
+                            && (leftSide.size() > leftSides[g].length || g < fd))
+                    .mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    boolean isViolated(int[][] world, int freshRow, int freshCol) {
+        int[] order = fdsByRightSide[freshCol];
+        boolean[] fulfilled = new boolean[leftSides.length];
+        boolean violated = false;
+
+        for (int fd : order) {
+            if (anyFulfilled(subsetFds[fd], fulfilled)) {
+                fulfilled[fd] = true;
+                continue;
+            }
+
+            checks[fd]++;
+
+            if (isViolated(world, freshRow, freshCol, leftSides[fd])) {
+                violations[fd]++;
+                violated = true;
+                break;
+            }
+
+            fulfilled[fd] = true;
+        }
+
+        if (++worldsSinceReorder[freshCol] >= REORDER_INTERVAL) {
+            reorder(freshCol);
+        }
+
+        return violated;
+    }
+
+    /**
+     * Checks a single fd X->A with A the column of the fresh cell, without any state.
+     */
+    static boolean isViolated(int[][] world, int freshRow, int freshCol, int[] leftSide) {
+        int[] freshValues = world[freshRow];
+
+        for (int x : leftSide) {
+            if (freshValues[x] == 0) {
+                return false;
+            }
+        }
+
+        for (int row = 0; row < world.length; row++) {
+            int[] values = world[row];
+
+            if (row == freshRow || values[freshCol] == 0) {
+                continue;
+            }
+
+            boolean agrees = true;
+
+            for (int x : leftSide) {
+                if (values[x] != freshValues[x]) {
+                    agrees = false;
+                    break;
+                }
+            }
+
+            // the fresh value differs from all values of the table
+            if (agrees) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean anyFulfilled(int[] fds, boolean[] fulfilled) {
+        for (int fd : fds) {
+            if (fulfilled[fd]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void reorder(int col) {
+        worldsSinceReorder[col] = 0;
+        Integer[] order = Arrays.stream(fdsByRightSide[col]).boxed().toArray(Integer[]::new);
+        // fds without checks so far are ranked by the prior rate of 1/2
+        Arrays.sort(order, Comparator.comparingDouble(fd -> -(violations[fd] + 1.0) / (checks[fd] + 2.0)));
+        fdsByRightSide[col] = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.example.informationcontent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Discovers all minimal non-trivial functional dependencies with a single attribute on the right-hand side, following
+ * the level-wise lattice traversal of TANE. Attribute sets are bitmasks, each level is processed in parallel.
+ */
+class FdDiscovery {
+
+    private final int[][] table;
+    private final int cols;
+    private final StrippedPartition[] columnPartitions;
+
+    FdDiscovery(int[][] table, StrippedPartition[] columnPartitions) {
+        this.table = table;
+        this.cols = columnPartitions.length;
+        this.columnPartitions = columnPartitions;
+    }
+
+    List<FunctionalDependency> discover() {
+        if (cols > 63) {
+            throw new IllegalArgumentException(String.format("fd discovery supports at most 63 attributes, number of attributes: %d", cols));
+        }
+
+        List<FunctionalDependency> funcDeps = Collections.synchronizedList(new ArrayList<>());
+        Map<Long, Long> previousCandidates = Map.of(0L, (1L << cols) - 1);
+        Map<Long, StrippedPartition> previousLevel = Map.of(0L, StrippedPartition.ofEmptySet(table.length));
+        Map<Long, StrippedPartition> level = new HashMap<>();
+
+        for (int attr = 0; attr < cols; attr++) {
+            level.put(1L << attr, columnPartitions[attr]);
+        }
+
+        while (!level.isEmpty()) {
+            Map<Long, Long> candidates = computeDependencies(level, previousLevel, previousCandidates, funcDeps);
+            level.keySet().removeIf(attrs -> candidates.get(attrs) == 0);
+            previousLevel = level;
+            previousCandidates = candidates;
+            level = generateNextLevel(level);
+        }
+
+        funcDeps.sort(Comparator.comparingInt(FunctionalDependency::getSimpleRightSide)
+                .thenComparingInt(fd -> fd.getLeftSide().size()).thenComparing(FunctionalDependency::toString));
+        return funcDeps;
+    }
+
+    private Map<Long, Long> computeDependencies(Map<Long, StrippedPartition> level, Map<Long, StrippedPartition> previousLevel,
+                                               Map<Long, Long> previousCandidates, List<FunctionalDependency> funcDeps) {
+        Map<Long, Long> candidates = new ConcurrentHashMap<>();
+
+        level.keySet().parallelStream().forEach(attrs -> {
+            long candidateAttrs = (1L << cols) - 1;
+
+            for (long rest = attrs; rest != 0; rest &= rest - 1) {
+                candidateAttrs &= previousCandidates.getOrDefault(attrs & ~Long.lowestOneBit(rest), 0L);
+            }
+
+            long error = level.get(attrs).getError();
+
+            for (long rest = attrs & candidateAttrs; rest != 0; rest &= rest - 1) {
+                long right = Long.lowestOneBit(rest);
+                long left = attrs & ~right;
+
+                if (previousLevel.get(left).getError() == error) {
+                    funcDeps.addAll(toFuncDeps(left, Long.numberOfTrailingZeros(right)));
+                    candidateAttrs &= attrs & ~right;
+                }
+            }
+
+            candidates.put(attrs, candidateAttrs);
+        });
+
+        return candidates;
+    }
+
+    private Map<Long, StrippedPartition> generateNextLevel(Map<Long, StrippedPartition> level) {
+        // sets sharing all attributes but their highest one are combined to the sets of the next level
+        Map<Long, List<Long>> prefixBlocks = level.keySet().stream()
+                .collect(Collectors.groupingBy(attrs -> attrs & ~Long.highestOneBit(attrs)));
+        Map<Long, StrippedPartition> nextLevel = new ConcurrentHashMap<>();
+
+        prefixBlocks.values().parallelStream().forEach(block -> {
+            for (int i = 0; i < block.size(); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    long attrs = block.get(i) | block.get(j);
+
+                    if (allSubsetsInLevel(attrs, level)) {
+                        nextLevel.put(attrs, level.get(block.get(i)).product(level.get(block.get(j))));
+                    }
+                }
+            }
+        });
+
+        return nextLevel;
+    }
+
+    private static boolean allSubsetsInLevel(long attrs, Map<Long, StrippedPartition> level) {
+        for (long rest = attrs; rest != 0; rest &= rest - 1) {
+            if (!level.containsKey(attrs & ~Long.lowestOneBit(rest))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<FunctionalDependency> toFuncDeps(long left, int right) {
+        // a constant column is determined by the empty set, which is represented by all fds B->A
+        if (left == 0) {
+            List<FunctionalDependency> funcDeps = new ArrayList<>();
+
+            for (int attr = 0; attr < cols; attr++) {
+                if (attr != right) {
+                    funcDeps.add(new FunctionalDependency(Set.of(attr), Set.of(right)));
+                }
+            }
+
+            return funcDeps;
+        }
+
+        Set<Integer> leftSide = new HashSet<>();
+
+        for (long rest = left; rest != 0; rest &= rest - 1) {
+            leftSide.add(Long.numberOfTrailingZeros(rest));
+        }
+
+        return List.of(new FunctionalDependency(leftSide, Set.of(right)));
+    }
+
+}
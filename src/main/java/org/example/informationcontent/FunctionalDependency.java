@@ -1,4 +1,8 @@
+package org.example.informationcontent;
+
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class FunctionalDependency {
 
@@ -16,6 +20,23 @@ public class FunctionalDependency {
         this.simpleRightSide = rightSide.size() == 1 ? rightSide.iterator().next() : -1;
     }
 
+    static boolean hasFdFormat(String str) {
+        return str.matches("[1-9][0-9]*(,[1-9][0-9]*)*->[1-9][0-9]*");
+    }
+
+    static FunctionalDependency parse(String fd) {
+        if (!hasFdFormat(fd)) {
+            throw new IllegalArgumentException(String.format("fd \"%s\" incorrectly formatted%n" +
+                    "correct format: l->r with l positive integers separated by commas and r a single integer%n" +
+                    "example: 1,2,3->4", fd));
+        }
+
+        String[] leftRight = fd.split("->");
+        Set<Integer> left = Stream.of(leftRight[0].split(",")).map(x -> Integer.parseInt(x) - 1).collect(Collectors.toSet());
+        int right = Integer.parseInt(leftRight[1]) - 1;
+        return new FunctionalDependency(left, Set.of(right));
+    }
+
     Set<Integer> getLeftSide() {
         return Set.copyOf(leftSide);
     }
@@ -59,32 +80,16 @@ public class FunctionalDependency {
         return attr;
     }
 
-    FunctionalDependency convertToSubtable(int[] colsToDelete) {
+    FunctionalDependency convertToSubtable(IndexMapping colMapping) {
         Set<Integer> left = new HashSet<>();
         Set<Integer> right = new HashSet<>();
 
         for (int x : leftSide) {
-            int xNew = x;
-
-            for (int col : colsToDelete) {
-                if (col < x) {
-                    xNew--;
-                }
-            }
-
-            left.add(xNew);
+            left.add(colMapping.toSubtable(x));
         }
 
         for (int x : rightSide) {
-            int xNew = x;
-
-            for (int col : colsToDelete) {
-                if (col < x) {
-                    xNew--;
-                }
-            }
-
-            right.add(xNew);
+            right.add(colMapping.toSubtable(x));
         }
 
         return new FunctionalDependency(left, right);
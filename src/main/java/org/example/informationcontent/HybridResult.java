@@ -0,0 +1,16 @@
+package org.example.informationcontent;
+
+public class HybridResult extends AnytimeResult {
+
+    private final ComputationMethod[][] methods;
+
+    HybridResult(double[][] values, double[][] errors, ComputationMethod[][] methods) {
+        super(values, errors);
+        this.methods = methods;
+    }
+
+    public ComputationMethod[][] getMethods() {
+        return methods;
+    }
+
+}
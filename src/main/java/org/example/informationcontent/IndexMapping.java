@@ -0,0 +1,55 @@
+package org.example.informationcontent;
+
+import java.util.BitSet;
+
+/**
+ * Maps the row or column indices of a table to those of a subtable without the deleted indices and back.
+ */
+class IndexMapping {
+
+    private final BitSet deleted;
+    private final int[] rank;
+    private final int[] kept;
+
+    IndexMapping(int[] deletedIndices, int length) {
+        deleted = new BitSet(length);
+
+        for (int index : deletedIndices) {
+            deleted.set(index);
+        }
+
+        // rank[i] is the number of kept indices before i, i.e. the subtable index of a kept index i
+        rank = new int[length];
+        kept = new int[length - deleted.cardinality()];
+        int keptCount = 0;
+
+        for (int i = 0; i < length; i++) {
+            rank[i] = keptCount;
+
+            if (!deleted.get(i)) {
+                kept[keptCount++] = i;
+            }
+        }
+    }
+
+    boolean isDeleted(int index) {
+        return deleted.get(index);
+    }
+
+    boolean isIdentity() {
+        return deleted.isEmpty();
+    }
+
+    int toSubtable(int index) {
+        return rank[index];
+    }
+
+    int toTable(int subtableIndex) {
+        return kept[subtableIndex];
+    }
+
+    int getKeptCount() {
+        return kept.length;
+    }
+
+}
@@ -0,0 +1,289 @@
+package org.example.informationcontent;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * The cells which influence the entropy of one cell. As the table fulfills all functional dependencies, a world only
+ * violates an fd X->A if the replaced cell is in column A and another row agrees with its row on X, while the X cells
+ * of both rows and the A cell of the other row are present. Given the presence of the X cells in the own row, the
+ * other rows are independent, which decomposes the exact computation into one small enumeration per row.
+ */
+class InfluenceSet {
+
+    private static final int MAX_BITS = 62;
+    private static final int MAX_COUNTED_FDS = 20;
+
+    private final int row;
+    private final int col;
+    private final int cols;
+    private final int[][][] fdRowClasses;
+    private final List<Integer> relevantFdIndices = new ArrayList<>();
+    private final List<FunctionalDependency> relevantFds = new ArrayList<>();
+    private final int ownCells;
+    private final List<RowGroup> rowGroups = new ArrayList<>();
+
+    /**
+     * The rows agreeing with the row of the cell on a left side are read from the equivalence classes of the left side
+     * of each fd, null for a row without other rows in its class, so no other row is compared. The number of rows
+     * agreeing on exactly a subset of the relevant fds follows by inclusion-exclusion from the class sizes of the
+     * unions of their left sides, unless listing the rows of the classes is cheaper.
+     */
+    InfluenceSet(List<FunctionalDependency> funcDeps, int[][][] fdRowClasses, Function<BitSet, int[]> classSizes, int position, int cols) {
+        row = position / cols;
+        col = position % cols;
+        this.cols = cols;
+        this.fdRowClasses = fdRowClasses;
+        Map<Integer, Integer> ownBits = new HashMap<>();
+        long listingCost = 0;
+
+        for (int f = 0; f < funcDeps.size(); f++) {
+            FunctionalDependency funcDep = funcDeps.get(f);
+            int[] rowClass = fdRowClasses[f][row];
+
+            if (funcDep.getSimpleRightSide() != col || funcDep.getLeftSide().contains(col) || rowClass == null) {
+                continue;
+            }
+
+            relevantFdIndices.add(f);
+            relevantFds.add(funcDep);
+            listingCost += rowClass.length;
+
+            for (int attr : funcDep.getLeftSideArray()) {
+                ownBits.putIfAbsent(attr, ownBits.size());
+            }
+        }
+
+        ownCells = ownBits.size();
+        Map<List<Integer>, Integer> groupCounts = relevantFds.size() <= MAX_COUNTED_FDS && 1L << relevantFds.size() <= listingCost
+                ? countGroups(classSizes)
+                : listGroups();
+
+        for (Map.Entry<List<Integer>, Integer> entry : groupCounts.entrySet()) {
+            rowGroups.add(new RowGroup(entry.getKey(), entry.getValue(), relevantFds, ownBits, col));
+        }
+    }
+
+    /**
+     * Counts the other rows agreeing with the row on all left sides of each subset of the relevant fds, a subset only
+     * has agreeing rows if all its subsets have, and turns them into the rows agreeing on exactly the subset.
+     */
+    private Map<List<Integer>, Integer> countGroups(Function<BitSet, int[]> classSizes) {
+        int relevant = relevantFds.size();
+        int[] counts = new int[1 << relevant];
+
+        for (int subset = 1; subset < counts.length; subset++) {
+            boolean agreeing = true;
+
+            for (int i = 0; i < relevant && agreeing; i++) {
+                int smaller = subset & ~(1 << i);
+                agreeing = smaller == subset || smaller == 0 || counts[smaller] > 0;
+            }
+
+            if (!agreeing) {
+                continue;
+            }
+
+            if (Integer.bitCount(subset) == 1) {
+                counts[subset] = fdRowClasses[relevantFdIndices.get(Integer.numberOfTrailingZeros(subset))][row].length - 1;
+            } else {
+                BitSet attrs = new BitSet();
+
+                for (int i = 0; i < relevant; i++) {
+                    if ((subset & 1 << i) != 0) {
+                        relevantFds.get(i).getLeftSide().forEach(attrs::set);
+                    }
+                }
+
+                counts[subset] = Math.max(0, classSizes.apply(attrs)[row] - 1);
+            }
+        }
+
+        for (int i = 0; i < relevant; i++) {
+            for (int subset = 1; subset < counts.length; subset++) {
+                if ((subset & 1 << i) == 0) {
+                    counts[subset] -= counts[subset | 1 << i];
+                }
+            }
+        }
+
+        Map<List<Integer>, Integer> groupCounts = new HashMap<>();
+
+        for (int subset = 1; subset < counts.length; subset++) {
+            if (counts[subset] > 0) {
+                List<Integer> matchingFds = new ArrayList<>();
+
+                for (int i = 0; i < relevant; i++) {
+                    if ((subset & 1 << i) != 0) {
+                        matchingFds.add(i);
+                    }
+                }
+
+                groupCounts.put(matchingFds, counts[subset]);
+            }
+        }
+
+        return groupCounts;
+    }
+
+    private Map<List<Integer>, Integer> listGroups() {
+        Map<Integer, List<Integer>> matchingFdsOfRow = new HashMap<>();
+
+        for (int i = 0; i < relevantFds.size(); i++) {
+            for (int other : fdRowClasses[relevantFdIndices.get(i)][row]) {
+                if (other != row) {
+                    matchingFdsOfRow.computeIfAbsent(other, x -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        Map<List<Integer>, Integer> groupCounts = new HashMap<>();
+
+        for (List<Integer> matchingFds : matchingFdsOfRow.values()) {
+            groupCounts.merge(matchingFds, 1, Integer::sum);
+        }
+
+        return groupCounts;
+    }
+
+    /**
+     * Positions of the cells whose presence affects the entropy of the cell, in ascending order. Lists the rows of the
+     * classes, so it costs the total size of the classes.
+     */
+    int[] getCells() {
+        IntStream.Builder cells = IntStream.builder();
+
+        for (int i = 0; i < relevantFds.size(); i++) {
+            int[] leftSide = relevantFds.get(i).getLeftSideArray();
+
+            for (int other : fdRowClasses[relevantFdIndices.get(i)][row]) {
+                for (int attr : leftSide) {
+                    cells.add(other * cols + attr);
+                }
+
+                if (other != row) {
+                    cells.add(other * cols + col);
+                }
+            }
+        }
+
+        return cells.build().sorted().distinct().toArray();
+    }
+
+    /**
+     * Number of evaluated presence patterns of the exact computation.
+     */
+    double getExactCost() {
+        if (rowGroups.isEmpty()) {
+            return 1;
+        }
+
+        if (ownCells > MAX_BITS) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double rowCost = 0;
+
+        for (RowGroup group : rowGroups) {
+            if (group.cells > MAX_BITS) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            rowCost += Math.pow(2, group.cells);
+        }
+
+        return Math.pow(2, ownCells) * rowCost;
+    }
+
+    double getInformationContent() {
+        if (getExactCost() == Double.POSITIVE_INFINITY) {
+            throw new IllegalStateException("influence set too large for exact computation");
+        }
+
+        if (rowGroups.isEmpty()) {
+            return 1;
+        }
+
+        double sum = 0;
+
+        for (long own = 0; own < 1L << ownCells; own++) {
+            double product = 1;
+
+            for (RowGroup group : rowGroups) {
+                product *= Math.pow(group.getNoViolationRatio(own), group.count);
+
+                if (product == 0) {
+                    break;
+                }
+            }
+
+            sum += product;
+        }
+
+        return sum / (1L << ownCells);
+    }
+
+    private static class RowGroup {
+
+        private final int count;
+        private final int cells;
+        private final long[] ownMasks;
+        private final long[] rowMasks;
+
+        RowGroup(List<Integer> matchingFds, int count, List<FunctionalDependency> relevantFds, Map<Integer, Integer> ownBits, int col) {
+            this.count = count;
+            Map<Integer, Integer> rowBits = new HashMap<>();
+            ownMasks = new long[matchingFds.size()];
+            rowMasks = new long[matchingFds.size()];
+
+            for (int i = 0; i < matchingFds.size(); i++) {
+                FunctionalDependency funcDep = relevantFds.get(matchingFds.get(i));
+
+                for (int attr : funcDep.getLeftSideArray()) {
+                    ownMasks[i] |= 1L << ownBits.get(attr);
+                    rowMasks[i] |= 1L << rowBits.computeIfAbsent(attr, x -> rowBits.size());
+                }
+
+                rowMasks[i] |= 1L << rowBits.computeIfAbsent(col, x -> rowBits.size());
+            }
+
+            cells = rowBits.size();
+        }
+
+        private double getNoViolationRatio(long own) {
+            List<Long> activeMasks = new ArrayList<>();
+
+            for (int i = 0; i < ownMasks.length; i++) {
+                if ((ownMasks[i] & ~own) == 0) {
+                    activeMasks.add(rowMasks[i]);
+                }
+            }
+
+            if (activeMasks.isEmpty()) {
+                return 1;
+            }
+
+            long fulfilling = 0;
+
+            for (long present = 0; present < 1L << cells; present++) {
+                boolean violated = false;
+
+                for (long mask : activeMasks) {
+                    if ((mask & ~present) == 0) {
+                        violated = true;
+                        break;
+                    }
+                }
+
+                if (!violated) {
+                    fulfilling++;
+                }
+            }
+
+            return (double) fulfilling / (1L << cells);
+        }
+
+    }
+
+}
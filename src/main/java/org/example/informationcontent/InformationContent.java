@@ -0,0 +1,200 @@
+package org.example.informationcontent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable, thread-safe entry point for embedding the information content computation.
+ * Each call of {@link #start()} runs on its own {@link Computation}, so one instance can be started concurrently.
+ */
+public final class InformationContent {
+
+    // each run occupies a thread of its own, so the cpu-bound computation never delays the delivery of cell results
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "information-content");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int[][] table;
+    private final List<FunctionalDependency> funcDeps;
+    private final boolean identifyOnes;
+    private final boolean considerSubtables;
+    private final int randomisation;
+    private final SamplingStrategy sampling;
+    private final boolean closure;
+    private final Executor executor;
+    private final Duration timeout;
+
+    private InformationContent(Builder builder) {
+        table = copyTable(builder.table);
+        funcDeps = List.copyOf(builder.funcDeps);
+        identifyOnes = builder.identifyOnes;
+        considerSubtables = builder.considerSubtables;
+        randomisation = builder.randomisation;
+        sampling = builder.sampling;
+        closure = builder.closure;
+        executor = builder.executor;
+        timeout = builder.timeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public InformationContentRun start() {
+        return start(null);
+    }
+
+    /**
+     * Starts the computation asynchronously. The given subscriber (may be null) is registered before the first cell
+     * is computed and thus receives every cell result.
+     */
+    public InformationContentRun start(Flow.Subscriber<? super CellResult> subscriber) {
+        InformationContentRun run = new InformationContentRun(createComputation(), executor);
+
+        if (subscriber != null) {
+            run.subscribe(subscriber);
+        }
+
+        if (timeout != null) {
+            run.sparseResult().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        run.start();
+        return run;
+    }
+
+    private Computation createComputation() {
+        Computation computation = new Computation(copyTable(table), identifyOnes, considerSubtables, randomisation, sampling);
+
+        for (FunctionalDependency fd : funcDeps) {
+            computation.addFuncDepWithCheck(fd);
+        }
+
+        if (closure) {
+            computation.addTransitiveClosure();
+        }
+
+        return computation;
+    }
+
+    private static int[][] copyTable(int[][] table) {
+        return Arrays.stream(table).map(int[]::clone).toArray(int[][]::new);
+    }
+
+    public static final class Builder {
+
+        private int[][] table;
+        private final List<FunctionalDependency> funcDeps = new ArrayList<>();
+        private boolean identifyOnes;
+        private boolean considerSubtables;
+        private int randomisation;
+        private SamplingStrategy sampling = SamplingStrategy.MONTE_CARLO;
+        private boolean closure;
+        private Executor executor = DEFAULT_EXECUTOR;
+        private Duration timeout;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the encoded table, all values must be positive integers.
+         */
+        public Builder table(int[][] table) {
+            for (int[] row : table) {
+                if (row.length != table[0].length) {
+                    throw new IllegalArgumentException("lines must have same number of cells");
+                }
+
+                for (int cell : row) {
+                    if (cell <= 0) {
+                        throw new IllegalArgumentException("table values must be positive integers");
+                    }
+                }
+            }
+
+            this.table = table;
+            return this;
+        }
+
+        /**
+         * Adds functional dependencies in the command line format, e.g. "1,2->3" (columns starting at 1).
+         */
+        public Builder funcDeps(String... fds) {
+            for (String fd : fds) {
+                funcDeps.add(FunctionalDependency.parse(fd));
+            }
+
+            return this;
+        }
+
+        public Builder identifyOnes(boolean identifyOnes) {
+            this.identifyOnes = identifyOnes;
+            return this;
+        }
+
+        public Builder considerSubtables(boolean considerSubtables) {
+            this.considerSubtables = considerSubtables;
+            return this;
+        }
+
+        public Builder randomisation(int runs) {
+            if (runs < 0) {
+                throw new IllegalArgumentException("number of iterations must not be negative");
+            }
+
+            this.randomisation = runs;
+            return this;
+        }
+
+        public Builder sampling(SamplingStrategy sampling) {
+            this.sampling = sampling;
+            return this;
+        }
+
+        public Builder closure(boolean closure) {
+            this.closure = closure;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the computations and delivering the cell results, it needs a free thread for the
+         * delivery while a computation is running.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Cancels each started run that has not finished after the given duration.
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Validates table and functional dependencies, throws an {@link IllegalArgumentException} if an index is out
+         * of bounds or a functional dependency is not fulfilled.
+         */
+        public InformationContent build() {
+            if (table == null) {
+                throw new IllegalArgumentException("table missing");
+            }
+
+            InformationContent informationContent = new InformationContent(this);
+            informationContent.createComputation();
+            return informationContent;
+        }
+
+    }
+
+}
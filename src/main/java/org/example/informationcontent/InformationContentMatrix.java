@@ -0,0 +1,126 @@
+package org.example.informationcontent;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Information content matrix storing only the cells with a value other than 1, in row-major order.
+ */
+public class InformationContentMatrix implements Iterable<CellResult> {
+
+    private final int rows;
+    private final int cols;
+    private int[] exceptionRows = new int[16];
+    private int[] exceptionCols = new int[16];
+    private double[] exceptionValues = new double[16];
+    private int exceptions = 0;
+
+    InformationContentMatrix(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Sets the value of a cell, cells must be set in row-major order.
+     */
+    void append(int row, int col, double value) {
+        if (value == 1) {
+            return;
+        }
+
+        if (exceptions > 0 && (long) row * cols + col <= (long) exceptionRows[exceptions - 1] * cols + exceptionCols[exceptions - 1]) {
+            throw new IllegalStateException("cells must be appended in row-major order");
+        }
+
+        if (exceptions == exceptionRows.length) {
+            int capacity = exceptions * 2;
+            exceptionRows = Arrays.copyOf(exceptionRows, capacity);
+            exceptionCols = Arrays.copyOf(exceptionCols, capacity);
+            exceptionValues = Arrays.copyOf(exceptionValues, capacity);
+        }
+
+        exceptionRows[exceptions] = row;
+        exceptionCols[exceptions] = col;
+        exceptionValues[exceptions++] = value;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public double get(int row, int col) {
+        long position = (long) row * cols + col;
+        int low = 0;
+        int high = exceptions - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midPosition = (long) exceptionRows[mid] * cols + exceptionCols[mid];
+
+            if (midPosition < position) {
+                low = mid + 1;
+            } else if (midPosition > position) {
+                high = mid - 1;
+            } else {
+                return exceptionValues[mid];
+            }
+        }
+
+        return 1;
+    }
+
+    /**
+     * Number of cells with a value other than 1.
+     */
+    public int getExceptionCount() {
+        return exceptions;
+    }
+
+    /**
+     * Iterates over the cells with a value other than 1 in row-major order.
+     */
+    @Override
+    public Iterator<CellResult> iterator() {
+        return new Iterator<>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < exceptions;
+            }
+
+            @Override
+            public CellResult next() {
+                if (next >= exceptions) {
+                    throw new NoSuchElementException();
+                }
+
+                CellResult cell = new CellResult(exceptionRows[next], exceptionCols[next], exceptionValues[next]);
+                next++;
+                return cell;
+            }
+
+        };
+    }
+
+    public double[][] toDense() {
+        double[][] matrix = new double[rows][cols];
+
+        for (double[] row : matrix) {
+            Arrays.fill(row, 1);
+        }
+
+        for (int i = 0; i < exceptions; i++) {
+            matrix[exceptionRows[i]][exceptionCols[i]] = exceptionValues[i];
+        }
+
+        return matrix;
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.example.informationcontent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Handle of a running computation. Cell results are published as soon as they are computed, the complete matrix is
+ * available via {@link #sparseResult()} or, as dense array, via {@link #result()}. Completing either future in any other
+ * way (cancel, orTimeout, ...) stops the computation.
+ */
+public final class InformationContentRun implements Flow.Publisher<CellResult> {
+
+    private static final long PUBLISH_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Computation computation;
+    private final Executor executor;
+    private final SubmissionPublisher<CellResult> publisher;
+    private final CompletableFuture<InformationContentMatrix> sparseResult = new CompletableFuture<>();
+    private CompletableFuture<double[][]> result;
+
+    InformationContentRun(Computation computation, Executor executor) {
+        this.computation = computation;
+        this.executor = executor;
+        publisher = new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+        computation.setCellListener((row, col, value) -> publish(new CellResult(row, col, value)));
+        sparseResult.whenComplete((matrix, e) -> {
+            if (e != null) {
+                computation.cancel();
+                publisher.closeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Waits until every subscriber has buffer space, so the submission does not block. A blocked submission is not woken
+     * up when the run is completed otherwise, which would keep the computation and its thread alive.
+     */
+    private void publish(CellResult cell) {
+        while (!sparseResult.isDone() && publisher.estimateMaximumLag() >= publisher.getMaxBufferCapacity()) {
+            LockSupport.parkNanos(this, PUBLISH_WAIT_NANOS);
+        }
+
+        if (!sparseResult.isDone()) {
+            publisher.submit(cell);
+        }
+    }
+
+    void start() {
+        executor.execute(() -> {
+            try {
+                InformationContentMatrix matrix = computation.getSparseInformationContentMatrix();
+                publisher.close();
+                sparseResult.complete(matrix);
+            } catch (CancellationException e) {
+                sparseResult.cancel(false);
+            } catch (RuntimeException e) {
+                sparseResult.completeExceptionally(e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super CellResult> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * The matrix storing only the cells with an information content other than 1, for large tables.
+     */
+    public CompletableFuture<InformationContentMatrix> sparseResult() {
+        return sparseResult;
+    }
+
+    /**
+     * The matrix as dense array, which is only allocated for callers of this method.
+     */
+    public synchronized CompletableFuture<double[][]> result() {
+        if (result == null) {
+            CompletableFuture<double[][]> dense = new CompletableFuture<>();
+            dense.whenComplete((matrix, e) -> {
+                if (e != null) {
+                    sparseResult.completeExceptionally(e);
+                }
+            });
+            sparseResult.whenComplete((matrix, e) -> {
+                if (e != null) {
+                    dense.completeExceptionally(e);
+                } else {
+                    dense.complete(matrix.toDense());
+                }
+            });
+            result = dense;
+        }
+
+        return result;
+    }
+
+    public boolean cancel() {
+        return sparseResult.cancel(false);
+    }
+
+    public boolean isDone() {
+        return sparseResult.isDone();
+    }
+
+}
@@ -0,0 +1,702 @@
+package org.example.informationcontent;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.*;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Function;
+
+public class Main {
+
+    public static void main(String[] args) throws IOException {
+        // verify command line arguments
+        String[] verifiedArgs;
+        try {
+            verifiedArgs = verifyArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        // process args 0-3 (table and csv options)
+        int[][] table;
+        String tablePath;
+        try {
+            String tablePathOrString = verifiedArgs[0];
+            boolean encoded = verifiedArgs[1] != null;
+            char delimiter = verifiedArgs[2] != null && !verifiedArgs[2].isEmpty() ? verifiedArgs[2].charAt(0) : ',';
+            boolean header = verifiedArgs[3] != null;
+            table = encoded ? getTable(tablePathOrString) : readCsv(tablePathOrString, delimiter, header);
+            tablePath = encoded ? null : tablePathOrString;
+        } catch (FileNotFoundException | IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        // process args 5+ (create and configure computation objects, including fds and options)
+        List<Computation> computations = new ArrayList<>();
+        try {
+            boolean showProcess = verifiedArgs[5] != null;
+            boolean identifyOnes = verifiedArgs[6] != null;
+            boolean considerSubtables = verifiedArgs[7] != null;
+            int randomisation = verifiedArgs[8] != null ? Integer.parseInt(verifiedArgs[8]) : 0;
+            boolean closure = verifiedArgs[9] != null;
+            boolean discover = verifiedArgs[14] != null;
+            SamplingStrategy sampling = verifiedArgs[10] != null ? SamplingStrategy.fromName(verifiedArgs[10]) : SamplingStrategy.MONTE_CARLO;
+            String[] fds = Arrays.copyOfRange(verifiedArgs, 21, verifiedArgs.length);
+
+            for (String[] fdSet : splitFdSets(fds)) {
+                computations.add(createComputationObject(table, showProcess, identifyOnes, considerSubtables, randomisation, sampling, closure, discover, fdSet));
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        if (computations.size() > 1) {
+            computeFdSets(verifiedArgs[4], tablePath, computations);
+            return;
+        }
+
+        if (verifiedArgs[18] != null) {
+            computeRedundancySummary(tablePath, computations.get(0), Integer.parseInt(verifiedArgs[18]), verifiedArgs[19] != null);
+            return;
+        }
+
+        if (verifiedArgs[17] != null) {
+            double maxExactCost = verifiedArgs[20] != null ? Double.parseDouble(verifiedArgs[20]) : 1e7;
+            double accuracy = verifiedArgs[13] != null ? Double.parseDouble(verifiedArgs[13]) : 0.01;
+            computeMostRedundantCells(verifiedArgs[4], tablePath, computations.get(0), Integer.parseInt(verifiedArgs[17]), maxExactCost, accuracy);
+            return;
+        }
+
+        // compute information contents and measure runtime
+        Computation computation = computations.get(0);
+        long start = System.currentTimeMillis();
+        double[][] infContMat = null;
+        InformationContentMatrix sparseInfContMat = null;
+        double[][] errors = null;
+        ComputationMethod[][] methods = null;
+
+        if (verifiedArgs[12] != null) {
+            double accuracy = verifiedArgs[13] != null ? Double.parseDouble(verifiedArgs[13]) : 0.01;
+            HybridResult result = computation.getHybridResult(Double.parseDouble(verifiedArgs[12]), accuracy);
+            infContMat = result.getValues();
+            errors = result.getErrors();
+            methods = result.getMethods();
+        } else if (verifiedArgs[11] != null) {
+            AnytimeResult result = computation.getAnytimeResult((long) (Double.parseDouble(verifiedArgs[11]) * 1000));
+            infContMat = result.getValues();
+            errors = result.getErrors();
+        } else if (verifiedArgs[15] != null) {
+            long cacheSize = (verifiedArgs[16] != null ? Long.parseLong(verifiedArgs[16]) : 256) * 1024 * 1024;
+            sparseInfContMat = getInformationContentMatrixCached(computation, new ResultCache(Paths.get(verifiedArgs[15]), cacheSize));
+        } else {
+            sparseInfContMat = computation.getSparseInformationContentMatrix();
+        }
+
+        long end = System.currentTimeMillis();
+        double runtime = (end - start) / 1000.0;
+
+        // process arg 4 (write information contents to output file)
+        try {
+            if (sparseInfContMat != null) {
+                writeResultToOutputFile(verifiedArgs[4], sparseInfContMat);
+            } else {
+                writeResultToOutputFile(verifiedArgs[4], infContMat);
+            }
+        } catch (FileAlreadyExistsException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        if (sparseInfContMat != null) {
+            printOutput(tablePath, computation.getFdsString(), sparseInfContMat, runtime);
+        } else {
+            System.out.println(getOutputString(tablePath, computation.getFdsString(), infContMat, errors, methods, runtime));
+        }
+    }
+
+    private static String[] verifyArgs(String[] args) {
+        int numOptions = 20;
+        String[] verifiedOptions = new String[numOptions + 1];
+
+        if (args[0].startsWith("-") || hasFdFormat(args[0])) {
+            throw new IllegalArgumentException("parameter \"table_file\" or \"table_encoded\" missing");
+        }
+
+        verifiedOptions[0] = args[0];
+        int i = 1;
+
+        while (i < args.length && !hasFdFormat(args[i]) && !args[i].equals("--set")) {
+            switch (args[i++]) {
+                case "-e" -> verifiedOptions[1] = "X";
+                case "-d" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option -d missing");
+                    }
+                    if (args[i].length() != 1) {
+                        throw new IllegalArgumentException("delimiter must be a single character");
+                    }
+                    verifiedOptions[2] = args[i++];
+                }
+                case "--header" -> verifiedOptions[3] = "X";
+                case "--name" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --name missing");
+                    }
+                    verifiedOptions[4] = args[i++];
+                }
+
+                case "--show-process" -> verifiedOptions[5] = "X";
+                case "-i" -> verifiedOptions[6] = "X";
+                case "-s" -> verifiedOptions[7] = "X";
+                case "-r" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option -r missing");
+                    }
+                    try {
+                        Integer.parseInt(args[i]);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("number of iterations must be an integer");
+                    }
+                    verifiedOptions[8] = args[i++];
+                }
+                case "--closure" -> verifiedOptions[9] = "X";
+                case "--sampling" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --sampling missing");
+                    }
+                    SamplingStrategy.fromName(args[i]);
+                    verifiedOptions[10] = args[i++];
+                }
+                case "--budget" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --budget missing");
+                    }
+                    try {
+                        if (Double.parseDouble(args[i]) <= 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("time budget must be a positive number of seconds");
+                    }
+                    verifiedOptions[11] = args[i++];
+                }
+                case "--hybrid" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --hybrid missing");
+                    }
+                    try {
+                        if (Double.parseDouble(args[i]) < 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("maximum exact cost must be a non-negative number");
+                    }
+                    verifiedOptions[12] = args[i++];
+                }
+                case "--accuracy" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --accuracy missing");
+                    }
+                    try {
+                        double accuracy = Double.parseDouble(args[i]);
+
+                        if (accuracy <= 0 || accuracy >= 1) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("accuracy must be a number between 0 and 1");
+                    }
+                    verifiedOptions[13] = args[i++];
+                }
+                case "--discover" -> verifiedOptions[14] = "X";
+                case "--cache" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --cache missing");
+                    }
+                    verifiedOptions[15] = args[i++];
+                }
+                case "--cache-size" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --cache-size missing");
+                    }
+                    try {
+                        if (Long.parseLong(args[i]) <= 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("cache size must be a positive integer");
+                    }
+                    verifiedOptions[16] = args[i++];
+                }
+                case "--top-k" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --top-k missing");
+                    }
+                    try {
+                        if (Integer.parseInt(args[i]) <= 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("number of cells must be a positive integer");
+                    }
+                    verifiedOptions[17] = args[i++];
+                }
+                case "--summary" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --summary missing");
+                    }
+                    try {
+                        if (Integer.parseInt(args[i]) <= 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("number of samples must be a positive integer");
+                    }
+                    verifiedOptions[18] = args[i++];
+                }
+                case "--attribution" -> verifiedOptions[19] = "X";
+                case "--max-exact-cost" -> {
+                    if (i >= args.length || args[i].startsWith("-") || hasFdFormat(args[i])) {
+                        throw new IllegalArgumentException("parameter for option --max-exact-cost missing");
+                    }
+                    try {
+                        if (Double.parseDouble(args[i]) < 0) {
+                            throw new NumberFormatException();
+                        }
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("maximum exact cost must be a non-negative number");
+                    }
+                    verifiedOptions[20] = args[i++];
+                }
+
+                default ->
+                        throw new IllegalArgumentException(String.format("unexpected parameter \"%s\"", args[i - 1]));
+            }
+        }
+
+        // each mode replaces the standard computation, so at most one of them can be chosen
+        String[] modeNames = {"--budget", "--hybrid", "--cache", "--top-k", "--summary"};
+        int[] modeOptions = {11, 12, 15, 17, 18};
+        String mode = null;
+
+        for (int m = 0; m < modeOptions.length; m++) {
+            if (verifiedOptions[modeOptions[m]] != null) {
+                if (mode != null) {
+                    throw new IllegalArgumentException(String.format("option %s cannot be combined with %s", modeNames[m], mode));
+                }
+                mode = modeNames[m];
+            }
+        }
+
+        if (verifiedOptions[8] != null && mode != null && verifiedOptions[15] == null) {
+            throw new IllegalArgumentException(String.format("option -r cannot be combined with %s", mode));
+        }
+        if (verifiedOptions[13] != null && verifiedOptions[12] == null && verifiedOptions[17] == null) {
+            throw new IllegalArgumentException("option --accuracy requires --hybrid or --top-k");
+        }
+        if (verifiedOptions[20] != null && verifiedOptions[17] == null) {
+            throw new IllegalArgumentException("option --max-exact-cost requires --top-k");
+        }
+        if (verifiedOptions[19] != null && verifiedOptions[18] == null) {
+            throw new IllegalArgumentException("option --attribution requires --summary");
+        }
+        if (verifiedOptions[16] != null && verifiedOptions[15] == null) {
+            throw new IllegalArgumentException("option --cache-size requires --cache");
+        }
+
+        String[] fds = Arrays.copyOfRange(args, i, args.length);
+
+        for (String fd : fds) {
+            if (fd.equals("--set")) {
+                if (verifiedOptions[11] != null || verifiedOptions[12] != null || verifiedOptions[15] != null || verifiedOptions[17] != null
+                        || verifiedOptions[18] != null) {
+                    throw new IllegalArgumentException("multiple fd sets cannot be combined with --budget, --hybrid, --cache, --top-k or --summary");
+                }
+            } else {
+                FunctionalDependency.parse(fd);
+            }
+        }
+
+        String[] verifiedArgs = Arrays.copyOf(verifiedOptions, verifiedOptions.length + fds.length);
+        System.arraycopy(fds, 0, verifiedArgs, verifiedOptions.length, fds.length);
+        return verifiedArgs;
+    }
+
+    private static int[][] getTable(String tableStr) {
+        String[] lines = tableStr.split(";");
+        List<String[]> cells = new ArrayList<>();
+        int cols = 0;
+
+        for (String lineStr : lines) {
+            String[] line = lineStr.split(",");
+            cells.add(line);
+            int c = line.length;
+
+            if (c == 0 || line[0].isEmpty()) {
+                continue;
+            }
+
+            if (cols == 0) {
+                cols = c;
+            } else if (cols != c) {
+                throw new IllegalArgumentException("lines must have same number of cells");
+            }
+        }
+
+        return stringArrListToIntMatrix(cells);
+    }
+
+    private static int[][] readCsv(String fileName, char delimiter, boolean header) throws IOException {
+        try (FileReader fileReader = new FileReader(fileName);
+             CSVReader csvReader = new CSVReaderBuilder(fileReader).withSkipLines(header ? 1 : 0)
+                     .withCSVParser(new CSVParserBuilder().withSeparator(delimiter).build()).build()) {
+            List<String[]> cells = csvReader.readAll();
+            return stringArrListToIntMatrix(cells);
+        } catch (FileNotFoundException e) {
+            throw new FileNotFoundException("source file not found: " + fileName);
+        } catch (IOException e) {
+            throw new IOException("error reading file: " + fileName);
+        } catch (CsvException e) {
+            throw new RuntimeException("error reading file: " + fileName);
+        }
+    }
+
+    private static Computation createComputationObject(int[][] table, boolean showProcess, boolean identifyOnes, boolean considerSubtables, int randomisation, SamplingStrategy sampling, boolean closure, boolean discover, String... fds) {
+        Computation computation = new Computation(table, identifyOnes, considerSubtables, randomisation, sampling);
+
+        if (showProcess) {
+            computation.enableProcessedCount();
+        }
+
+        // add functional dependencies with check if fulfilled and indices inside bounds
+        for (String fd : fds) {
+            computation.addFuncDepWithCheck(FunctionalDependency.parse(fd));
+        }
+
+        // add all minimal functional dependencies fulfilled by the table
+        if (discover) {
+            long start = System.nanoTime();
+            computation.addDiscoveredFuncDeps();
+            long end = System.nanoTime();
+            System.out.printf("%d ms for discovering functional dependencies%n", (end - start) / 1000000);
+        }
+
+        // add transitive closure
+        if (closure) {
+            long start = System.nanoTime();
+            computation.addTransitiveClosure();
+            long end = System.nanoTime();
+            System.out.printf("%d ms for computing the transitive closure%n", (end - start) / 1000000);
+        }
+
+        return computation;
+    }
+
+    private static List<String[]> splitFdSets(String[] fds) {
+        List<String[]> fdSets = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= fds.length; i++) {
+            if (i == fds.length || fds[i].equals("--set")) {
+                fdSets.add(Arrays.copyOfRange(fds, start, i));
+                start = i + 1;
+            }
+        }
+
+        return fdSets;
+    }
+
+    private static void computeFdSets(String outputPath, String tablePath, List<Computation> computations) throws IOException {
+        long start = System.currentTimeMillis();
+        double[][][] infContMats = Computation.getInformationContentMatrices(computations);
+        long end = System.currentTimeMillis();
+        StringBuilder builder = new StringBuilder();
+
+        if (tablePath != null) {
+            builder.append("Source: ").append(tablePath).append("\n");
+        }
+
+        for (int k = 0; k < infContMats.length; k++) {
+            try {
+                writeResultToOutputFile(outputPath, infContMats[k]);
+            } catch (FileAlreadyExistsException e) {
+                System.out.println(e.getMessage());
+                return;
+            }
+
+            builder.append("FDs: ").append(computations.get(k).getFdsString()).append("\n")
+                    .append(matrixToString(infContMats[k], "\t")).append("\n");
+        }
+
+        builder.append("Runtime: ").append((end - start) / 1000.0).append(" seconds");
+        System.out.println(builder);
+    }
+
+    private static void computeMostRedundantCells(String outputPath, String tablePath, Computation computation, int k, double maxExactCost, double accuracy) throws IOException {
+        if (tablePath != null) {
+            System.out.println("Source: " + tablePath);
+        }
+
+        System.out.println("FDs: " + computation.getFdsString());
+        int[] rank = {0};
+        computation.setCellListener((row, col, value) -> System.out.printf("%d. %s%n", ++rank[0], new CellResult(row, col, value)));
+        long start = System.currentTimeMillis();
+        List<CellResult> cells = computation.getMostRedundantCells(k, maxExactCost, accuracy);
+        long end = System.currentTimeMillis();
+
+        if (outputPath != null) {
+            try {
+                writeCsv(determineFilename(outputPath), String.join("\n", cells.stream()
+                        .map(cell -> String.format("%d,%d,%s", cell.row() + 1, cell.col() + 1, cell.value() == 1 ? "1" : String.valueOf(cell.value())))
+                        .toArray(String[]::new)));
+            } catch (FileAlreadyExistsException e) {
+                System.out.println(e.getMessage());
+                return;
+            }
+        }
+
+        System.out.println("Runtime: " + (end - start) / 1000.0 + " seconds");
+    }
+
+    private static void computeRedundancySummary(String tablePath, Computation computation, int samplesPerColumn, boolean attribution) {
+        long start = System.currentTimeMillis();
+        RedundancySummary summary = computation.getRedundancySummary(samplesPerColumn, attribution);
+        long end = System.currentTimeMillis();
+        StringBuilder builder = new StringBuilder();
+
+        if (tablePath != null) {
+            builder.append("Source: ").append(tablePath).append("\n");
+        }
+
+        builder.append("FDs: ").append(computation.getFdsString()).append("\n")
+                .append(String.format("Average information content: %s +- %s (95%% confidence, %d samples)%n",
+                        summary.getAverage(), summary.getAverageError(), summary.getSamples()));
+
+        for (int col = 0; col < summary.getColumnAverages().length; col++) {
+            builder.append(String.format("Column %d: %s +- %s%n", col + 1, summary.getColumnAverages()[col], summary.getColumnErrors()[col]));
+        }
+
+        if (summary.getAttributions() != null) {
+            for (int f = 0; f < summary.getFuncDeps().length; f++) {
+                builder.append(String.format("Redundancy caused by %s: %s +- %s%n", summary.getFuncDeps()[f],
+                        summary.getAttributions()[f], summary.getAttributionErrors()[f]));
+            }
+        }
+
+        builder.append("Runtime: ").append((end - start) / 1000.0).append(" seconds");
+        System.out.println(builder);
+    }
+
+    private static InformationContentMatrix getInformationContentMatrixCached(Computation computation, ResultCache cache) {
+        String fingerprint = computation.getFingerprint();
+        InformationContentMatrix infContMat = cache.get(fingerprint);
+
+        if (infContMat != null) {
+            System.out.println("result loaded from cache");
+            return infContMat;
+        }
+
+        infContMat = computation.getSparseInformationContentMatrix();
+
+        try {
+            cache.put(fingerprint, infContMat);
+        } catch (IOException e) {
+            System.out.println("cannot write result to cache: " + e.getMessage());
+        }
+
+        return infContMat;
+    }
+
+    private static void writeResultToOutputFile(String outputPath, double[][] infContMat) throws IOException {
+        if (outputPath != null) {
+            writeMatrixToCsv(determineFilename(outputPath), infContMat);
+        }
+    }
+
+    private static void writeResultToOutputFile(String outputPath, InformationContentMatrix infContMat) throws IOException {
+        if (outputPath != null) {
+            writeMatrixToCsv(determineFilename(outputPath), infContMat);
+        }
+    }
+
+    /**
+     * Prints the matrix row by row, hence no string of the whole matrix is built.
+     */
+    private static void printOutput(String tablePath, String fdsString, InformationContentMatrix infContMat, double runtime) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(System.out));
+
+        if (tablePath != null) {
+            writer.write("Source: " + tablePath + "\n");
+        }
+
+        writer.write("FDs: " + fdsString + "\n");
+        writeMatrix(writer, infContMat, "\t");
+        writer.write("Runtime: " + runtime + " seconds\n");
+        writer.flush();
+    }
+
+    private static String getOutputString(String tablePath, String fdsString, double[][] infContMat, double[][] errors, ComputationMethod[][] methods, double runtime) {
+        StringBuilder builder = new StringBuilder();
+
+        if (tablePath != null) {
+            builder.append("Source: ").append(tablePath).append("\n");
+        }
+
+        builder.append("FDs: ").append(fdsString).append("\n")
+                .append(matrixToString(infContMat, "\t")).append("\n");
+
+        if (errors != null) {
+            builder.append("Errors (95% confidence):\n")
+                    .append(matrixToString(errors, "\t")).append("\n");
+        }
+
+        if (methods != null) {
+            builder.append("Methods (1: one, E: exact, S: sampled):\n")
+                    .append(String.join("\n", Arrays.stream(methods)
+                            .map(row -> String.join("\t", Arrays.stream(row).map(String::valueOf).toArray(String[]::new)))
+                            .toArray(String[]::new))).append("\n");
+        }
+
+        builder.append("Runtime: ").append(runtime).append(" seconds");
+        return builder.toString();
+    }
+
+    private static boolean hasFdFormat(String str) {
+        return FunctionalDependency.hasFdFormat(str);
+    }
+
+    private static int[][] stringArrListToIntMatrix(List<String[]> cells) {
+        int[][] table = new int[cells.size()][cells.get(0).length];
+        int j = 0;
+
+        for (String[] row : cells) {
+            if (row.length > 0 && !row[0].isEmpty()) {
+                for (int k = 0; k < row.length; k++) {
+                    try {
+                        table[j][k] = Integer.parseInt(row[k]);
+
+                        if (table[j][k] <= 0) {
+                            return encodeCells(cells);
+                        }
+                    } catch (NumberFormatException e) {
+                        return encodeCells(cells);
+                    }
+                }
+                j++;
+            }
+        }
+
+        return table;
+    }
+
+    private static String determineFilename(String filename) {
+        String[] nameExt = filename.split("\\.", 2);
+        int i = 1;
+
+        while (new File(filename).exists()) {
+            filename = nameExt.length > 1 ? String.format("%s(%d).%s", nameExt[0], ++i, nameExt[1]) : String.format("%s(%d)", nameExt[0], ++i);
+        }
+
+        return filename;
+    }
+
+    private static void writeMatrixToCsv(String filepath, double[][] matrix) throws IOException {
+        writeCsv(filepath, matrixToString(matrix, ","));
+    }
+
+    private static void writeMatrixToCsv(String filepath, InformationContentMatrix matrix) throws IOException {
+        createParentDirectories(filepath);
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filepath))) {
+            writeMatrix(writer, matrix, ",");
+        }
+    }
+
+    private static void writeCsv(String filepath, String content) throws IOException {
+        createParentDirectories(filepath);
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filepath))) {
+            writer.write(content);
+            writer.write("\n");
+        }
+    }
+
+    private static void createParentDirectories(String filepath) throws IOException {
+        File parentFile = new File(filepath).getParentFile();
+        File parentFileIt = parentFile;
+
+        while (parentFileIt != null) {
+            if (parentFileIt.isFile()) {
+                throw new FileAlreadyExistsException(String.format("cannot create directory '%s': file exists", parentFileIt));
+            }
+
+            parentFileIt = parentFileIt.getParentFile();
+        }
+
+        if (parentFile != null) {
+            String parentPath = parentFile.getAbsolutePath();
+
+            if (!new File(parentPath).exists()) {
+                Files.createDirectories(Paths.get(parentPath));
+            }
+        }
+    }
+
+    private static String matrixToString(double[][] matrix, String delimiter) {
+        Function<double[], String> rowToString = row -> String.join(delimiter, Arrays.stream(row)
+                .mapToObj(cell -> cell == 1 ? "1" : String.valueOf(cell)).toArray(String[]::new));
+        String[] matrixConverted = Arrays.stream(matrix).map(rowToString).toArray(String[]::new);
+        return String.join("\n", matrixConverted);
+    }
+
+    private static void writeMatrix(Writer writer, InformationContentMatrix matrix, String delimiter) throws IOException {
+        Iterator<CellResult> exceptions = matrix.iterator();
+        CellResult exception = exceptions.hasNext() ? exceptions.next() : null;
+
+        for (int i = 0; i < matrix.getRows(); i++) {
+            for (int j = 0; j < matrix.getCols(); j++) {
+                if (j > 0) {
+                    writer.write(delimiter);
+                }
+
+                if (exception != null && exception.row() == i && exception.col() == j) {
+                    writer.write(String.valueOf(exception.value()));
+                    exception = exceptions.hasNext() ? exceptions.next() : null;
+                } else {
+                    writer.write("1");
+                }
+            }
+
+            writer.write("\n");
+        }
+    }
+
+    private static int[][] encodeCells(List<String[]> cells) {
+        Map<String, Integer> stringToInt = new HashMap<>();
+        int[][] table = new int[cells.size()][cells.get(0).length];
+        int nextNumber = 1;
+
+        for (int i = 0; i < cells.size(); i++) {
+            for (int j = 0; j < cells.get(0).length; j++) {
+                if (stringToInt.containsKey(cells.get(i)[j])) {
+                    table[i][j] = stringToInt.get(cells.get(i)[j]);
+                } else {
+                    table[i][j] = nextNumber;
+                    stringToInt.put(cells.get(i)[j], nextNumber++);
+                }
+            }
+        }
+
+        return table;
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.example.informationcontent;
+
+/**
+ * Estimated aggregates of the information content with the half-widths of their 95% confidence intervals.
+ */
+public class RedundancySummary {
+
+    private final long samples;
+    private final double average;
+    private final double averageError;
+    private final double[] columnAverages;
+    private final double[] columnErrors;
+    private final String[] funcDeps;
+    private final double[] attributions;
+    private final double[] attributionErrors;
+
+    RedundancySummary(long samples, double average, double averageError, double[] columnAverages, double[] columnErrors,
+                      String[] funcDeps, double[] attributions, double[] attributionErrors) {
+        this.samples = samples;
+        this.average = average;
+        this.averageError = averageError;
+        this.columnAverages = columnAverages;
+        this.columnErrors = columnErrors;
+        this.funcDeps = funcDeps;
+        this.attributions = attributions;
+        this.attributionErrors = attributionErrors;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public double getAverageError() {
+        return averageError;
+    }
+
+    public double[] getColumnAverages() {
+        return columnAverages;
+    }
+
+    public double[] getColumnErrors() {
+        return columnErrors;
+    }
+
+    public String[] getFuncDeps() {
+        return funcDeps;
+    }
+
+    /**
+     * Part of the average redundancy caused by each functional dependency, the parts sum up to one minus the average
+     * information content. Null if the attribution was not requested.
+     */
+    public double[] getAttributions() {
+        return attributions;
+    }
+
+    public double[] getAttributionErrors() {
+        return attributionErrors;
+    }
+
+}
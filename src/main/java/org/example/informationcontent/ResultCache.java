@@ -0,0 +1,163 @@
+package org.example.informationcontent;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Persistent cache of information content matrices, keyed by a fingerprint of table, functional dependencies and
+ * options. Least recently used entries are evicted when the cache exceeds its maximum size.
+ */
+class ResultCache {
+
+    private static final int MAGIC = 0x52494343;
+    private static final int VERSION = 2;
+    private static final String EXTENSION = ".bin";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    ResultCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Only equality of values inside a column matters for the information content, hence the values of each column are
+     * renamed in order of their first occurrence. The fingerprint is thus independent of the encoding of the table.
+     */
+    static String fingerprint(int[][] table, List<String> fds, String options) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            int cols = table.length == 0 ? 0 : table[0].length;
+            DataOutputStream out = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+            out.writeInt(table.length);
+            out.writeInt(cols);
+
+            for (int j = 0; j < cols; j++) {
+                Map<Integer, Integer> canonicalValues = new HashMap<>();
+
+                for (int[] row : table) {
+                    out.writeInt(canonicalValues.computeIfAbsent(row[j], x -> canonicalValues.size() + 1));
+                }
+            }
+
+            List<String> sortedFds = new ArrayList<>(fds);
+            sortedFds.sort(null);
+            out.write(String.join(" ", sortedFds).getBytes(StandardCharsets.UTF_8));
+            out.writeByte(0);
+            out.write(options.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new IllegalStateException("cannot compute fingerprint", e);
+        }
+    }
+
+    InformationContentMatrix get(String fingerprint) {
+        Path file = directory.resolve(fingerprint + EXTENSION);
+
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), new CRC32());
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(fingerprint)) {
+                throw new IOException("invalid header");
+            }
+
+            InformationContentMatrix matrix = new InformationContentMatrix(in.readInt(), in.readInt());
+            int exceptions = in.readInt();
+
+            for (int i = 0; i < exceptions; i++) {
+                matrix.append(in.readInt(), in.readInt(), Double.longBitsToDouble(in.readLong()));
+            }
+
+            long checksum = checked.getChecksum().getValue();
+
+            if (in.readLong() != checksum) {
+                throw new IOException("checksum mismatch");
+            }
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return matrix;
+        } catch (IOException | IllegalStateException e) {
+            // corrupt or truncated entries are dropped and recomputed
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+
+            return null;
+        }
+    }
+
+    void put(String fingerprint, InformationContentMatrix matrix) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(fingerprint + EXTENSION);
+        Path tmpFile = Files.createTempFile(directory, fingerprint, ".tmp");
+
+        try (CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)), new CRC32());
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(matrix.getRows());
+            out.writeInt(matrix.getCols());
+            out.writeInt(matrix.getExceptionCount());
+
+            // only cells other than 1 are stored, raw bits keep the exact fractions without rounding
+            for (CellResult cell : matrix) {
+                out.writeInt(cell.row());
+                out.writeInt(cell.col());
+                out.writeLong(Double.doubleToRawLongBits(cell.value()));
+            }
+
+            out.flush();
+            out.writeLong(checked.getChecksum().getValue());
+        }
+
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        evict(file);
+    }
+
+    private void evict(Path keep) throws IOException {
+        List<Path> entries;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = new ArrayList<>(files.filter(file -> file.toString().endsWith(EXTENSION)).toList());
+        }
+
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        long totalBytes = 0;
+
+        for (Path entry : entries) {
+            lastUsed.put(entry, Files.getLastModifiedTime(entry));
+            totalBytes += Files.size(entry);
+        }
+
+        entries.sort(Comparator.comparing(lastUsed::get));
+
+        for (Path entry : entries) {
+            if (totalBytes <= maxBytes) {
+                break;
+            }
+
+            if (!entry.equals(keep)) {
+                totalBytes -= Files.size(entry);
+                Files.deleteIfExists(entry);
+            }
+        }
+    }
+
+}
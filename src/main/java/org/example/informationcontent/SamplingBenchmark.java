@@ -0,0 +1,109 @@
+package org.example.informationcontent;
+
+import java.util.*;
+
+/**
+ * Compares the sampling strategies on fixed tables against the exact information contents. For each strategy and
+ * number of samples per cell, it reports the root mean squared error, the bias as z-score and the number of samples
+ * needed for the accuracy of Monte Carlo sampling relative to Monte Carlo sampling. All worlds are drawn from seeded
+ * random generators, so the results are reproducible.
+ *
+ * usage: SamplingBenchmark [repetitions]
+ */
+public class SamplingBenchmark {
+
+    private static final int[] SAMPLE_SIZES = {4, 16, 64};
+
+    public static void main(String[] args) {
+        int repetitions = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Random random = new Random(1);
+
+        // 12x3 table with 1->2, four rows share each left side value
+        int[][] table1 = new int[12][3];
+
+        for (int i = 0; i < 12; i++) {
+            table1[i][0] = i % 3 + 1;
+            table1[i][1] = i % 3 + 1;
+            table1[i][2] = random.nextInt(4) + 1;
+        }
+
+        // 10x4 table with 1->2 and 2,3->4
+        int[][] table2 = new int[10][4];
+
+        for (int i = 0; i < 10; i++) {
+            table2[i][0] = random.nextInt(4) + 1;
+            table2[i][1] = table2[i][0] % 2 + 1;
+            table2[i][2] = random.nextInt(2) + 1;
+            table2[i][3] = table2[i][1] * 2 + table2[i][2];
+        }
+
+        run("12x3, 1->2", table1, List.of("1->2"), repetitions);
+        run("10x4, 1->2 2,3->4", table2, List.of("1->2", "2,3->4"), repetitions);
+    }
+
+    private static void run(String name, int[][] table, List<String> fds, int repetitions) {
+        double[][] exact = createComputation(table, fds, 0, SamplingStrategy.MONTE_CARLO)
+                .getHybridResult(Double.MAX_VALUE, 0.01).getValues();
+        System.out.printf("%s, %d repetitions%n", name, repetitions);
+        System.out.printf("%-12s %8s %10s %10s %14s%n", "strategy", "samples", "rmse", "bias z", "rel. samples");
+
+        for (int runs : SAMPLE_SIZES) {
+            double mcMeanSquaredError = 0;
+
+            for (SamplingStrategy sampling : SamplingStrategy.values()) {
+                double squaredErrorSum = 0;
+                double[] meanErrors = new double[repetitions];
+                int evaluatedCells = 0;
+
+                for (int rep = 0; rep < repetitions; rep++) {
+                    Computation computation = createComputation(table, fds, runs, sampling);
+                    computation.setSeed(new SplittableRandom(rep).nextLong());
+                    double[][] estimate = computation.getInformationContentMatrix();
+                    evaluatedCells = 0;
+
+                    for (int i = 0; i < table.length; i++) {
+                        for (int j = 0; j < table[0].length; j++) {
+                            if (exact[i][j] < 1) {
+                                double error = estimate[i][j] - exact[i][j];
+                                squaredErrorSum += error * error;
+                                meanErrors[rep] += error;
+                                evaluatedCells++;
+                            }
+                        }
+                    }
+
+                    meanErrors[rep] /= evaluatedCells;
+                }
+
+                double meanSquaredError = squaredErrorSum / ((double) repetitions * evaluatedCells);
+
+                if (sampling == SamplingStrategy.MONTE_CARLO) {
+                    mcMeanSquaredError = meanSquaredError;
+                }
+
+                // the error of the estimator is inversely proportional to the number of samples
+                System.out.printf(Locale.ROOT, "%-12s %8d %10.5f %10.2f %14.2f%n", sampling, runs,
+                        Math.sqrt(meanSquaredError), getZScore(meanErrors), meanSquaredError / mcMeanSquaredError);
+            }
+        }
+
+        System.out.println();
+    }
+
+    private static Computation createComputation(int[][] table, List<String> fds, int runs, SamplingStrategy sampling) {
+        Computation computation = new Computation(table, true, false, runs, sampling);
+
+        for (String fd : fds) {
+            computation.addFuncDepWithCheck(FunctionalDependency.parse(fd));
+        }
+
+        return computation;
+    }
+
+    private static double getZScore(double[] values) {
+        double mean = Arrays.stream(values).average().orElse(0);
+        double variance = Arrays.stream(values).map(x -> (x - mean) * (x - mean)).sum() / (values.length - 1);
+        return variance == 0 ? 0 : mean / Math.sqrt(variance / values.length);
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.example.informationcontent;
+
+public enum SamplingStrategy {
+
+    MONTE_CARLO("mc"),
+    STRATIFIED("stratified"),
+    QUASI_MONTE_CARLO("qmc"),
+    ANTITHETIC("antithetic");
+
+    private final String name;
+
+    SamplingStrategy(String name) {
+        this.name = name;
+    }
+
+    static SamplingStrategy fromName(String name) {
+        for (SamplingStrategy strategy : values()) {
+            if (strategy.name.equals(name)) {
+                return strategy;
+            }
+        }
+
+        throw new IllegalArgumentException(String.format("unknown sampling strategy \"%s\"%n" +
+                "available strategies: mc, stratified, qmc, antithetic", name));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
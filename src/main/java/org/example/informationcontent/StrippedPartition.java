@@ -0,0 +1,154 @@
+package org.example.informationcontent;
+
+import java.util.*;
+
+/**
+ * Equivalence classes of the rows agreeing on a set of attributes, without classes of size one.
+ */
+class StrippedPartition {
+
+    private static final ThreadLocal<int[]> CLASS_OF_ROW = ThreadLocal.withInitial(() -> new int[0]);
+
+    private final int[][] classes;
+    private final int numRows;
+
+    private StrippedPartition(int[][] classes, int numRows) {
+        this.classes = classes;
+        this.numRows = numRows;
+    }
+
+    static StrippedPartition ofColumn(int[][] table, int col) {
+        Map<Integer, List<Integer>> rowsByValue = new HashMap<>();
+
+        for (int row = 0; row < table.length; row++) {
+            rowsByValue.computeIfAbsent(table[row][col], x -> new ArrayList<>()).add(row);
+        }
+
+        return new StrippedPartition(rowsByValue.values().stream().filter(rows -> rows.size() > 1)
+                .map(rows -> rows.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new), table.length);
+    }
+
+    static StrippedPartition ofEmptySet(int numRows) {
+        int[] all = new int[numRows];
+
+        for (int row = 0; row < numRows; row++) {
+            all[row] = row;
+        }
+
+        return new StrippedPartition(numRows > 1 ? new int[][]{all} : new int[0][], numRows);
+    }
+
+    StrippedPartition product(StrippedPartition other) {
+        int[] classOfRow = getClassOfRowArray();
+        int[][] buckets = new int[classes.length][];
+        int[] bucketSizes = new int[classes.length];
+        List<int[]> product = new ArrayList<>();
+
+        for (int i = 0; i < classes.length; i++) {
+            buckets[i] = new int[classes[i].length];
+
+            for (int row : classes[i]) {
+                classOfRow[row] = i + 1;
+            }
+        }
+
+        for (int[] otherClass : other.classes) {
+            for (int row : otherClass) {
+                int i = classOfRow[row] - 1;
+
+                if (i >= 0) {
+                    buckets[i][bucketSizes[i]++] = row;
+                }
+            }
+
+            for (int row : otherClass) {
+                int i = classOfRow[row] - 1;
+
+                if (i >= 0 && bucketSizes[i] > 0) {
+                    if (bucketSizes[i] > 1) {
+                        product.add(Arrays.copyOf(buckets[i], bucketSizes[i]));
+                    }
+
+                    bucketSizes[i] = 0;
+                }
+            }
+        }
+
+        for (int[] equivalenceClass : classes) {
+            for (int row : equivalenceClass) {
+                classOfRow[row] = 0;
+            }
+        }
+
+        return new StrippedPartition(product.toArray(int[][]::new), numRows);
+    }
+
+    /**
+     * Sum of the class sizes minus the number of classes, X->A holds iff the errors of X and XA are equal.
+     */
+    long getError() {
+        long error = 0;
+
+        for (int[] equivalenceClass : classes) {
+            error += equivalenceClass.length - 1;
+        }
+
+        return error;
+    }
+
+    /**
+     * Equivalence class of each row, null for rows not contained in a stripped class.
+     */
+    int[][] getRowClasses() {
+        int[][] rowClasses = new int[numRows][];
+
+        for (int[] equivalenceClass : classes) {
+            for (int row : equivalenceClass) {
+                rowClasses[row] = equivalenceClass;
+            }
+        }
+
+        return rowClasses;
+    }
+
+    /**
+     * Size of the equivalence class of each row, 0 for rows not contained in a stripped class.
+     */
+    int[] getRowClassSizes() {
+        int[] rowClassSizes = new int[numRows];
+
+        for (int[] equivalenceClass : classes) {
+            for (int row : equivalenceClass) {
+                rowClassSizes[row] = equivalenceClass.length;
+            }
+        }
+
+        return rowClassSizes;
+    }
+
+    boolean determines(int[][] table, int col) {
+        for (int[] equivalenceClass : classes) {
+            int value = table[equivalenceClass[0]][col];
+
+            for (int row : equivalenceClass) {
+                if (table[row][col] != value) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private int[] getClassOfRowArray() {
+        int[] classOfRow = CLASS_OF_ROW.get();
+
+        if (classOfRow.length < numRows) {
+            classOfRow = new int[numRows];
+            CLASS_OF_ROW.set(classOfRow);
+        }
+
+        return classOfRow;
+    }
+
+}
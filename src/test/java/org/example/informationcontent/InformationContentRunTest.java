@@ -0,0 +1,68 @@
+package org.example.informationcontent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InformationContentRunTest {
+
+    @Test
+    @Timeout(30)
+    void timeoutStopsComputationBlockedBySubscriberWithoutDemand() throws InterruptedException {
+        // all cells are ones and published at once, more than the publisher buffers, so the computation waits for a
+        // request that never comes
+        int[][] table = new int[400][];
+
+        for (int row = 0; row < table.length; row++) {
+            table[row] = new int[]{row + 1, row + 1};
+        }
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        InformationContentRun run = InformationContent.builder()
+                .table(table)
+                .funcDeps("1->2")
+                .identifyOnes(true)
+                .executor(runnable -> {
+                    Thread thread = new Thread(runnable);
+                    thread.setDaemon(true);
+                    threads.add(thread);
+                    thread.start();
+                })
+                .timeout(Duration.ofMillis(500))
+                .build()
+                .start(new Flow.Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                    }
+
+                    @Override
+                    public void onNext(CellResult item) {
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> run.result().get());
+        assertInstanceOf(TimeoutException.class, e.getCause());
+
+        for (Thread thread : threads) {
+            thread.join(5000);
+            assertFalse(thread.isAlive(), "thread of the timed out run still alive");
+        }
+    }
+
+}